@@ -0,0 +1,147 @@
+package com.wolfiez.wallpaper.build;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Build step that writes {@code .gz} and {@code .br} copies next to compressible
+ * static assets, so they can be served precompressed by the resource chain.
+ *
+ * Runs in single-file source mode during {@code process-classes}, on the copy of
+ * {@code static/} in the build output, and is not part of the application:
+ *
+ *   java src/build/java/com/wolfiez/wallpaper/build/PrecompressStaticAssets.java target/classes/static
+ *
+ * Gzip uses the JDK at the highest level. Brotli needs the {@code brotli} command
+ * on the PATH; without it only gzip copies are written. A copy is only kept when it
+ * is smaller than the original, and files whose copies are newer are skipped.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+public class PrecompressStaticAssets {
+
+    private static final Set<String> COMPRESSIBLE = Set.of("js", "css", "svg", "html", "json", "txt", "map");
+
+    /** Below this the compressed copy saves less than the extra header costs. */
+    private static final long MIN_SIZE = 256;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length != 1) {
+            System.err.println("Usage: PrecompressStaticAssets <static-directory>");
+            System.exit(2);
+        }
+        Path root = Path.of(args[0]);
+        if (!Files.isDirectory(root)) {
+            System.out.println("No static assets in " + root);
+            return;
+        }
+
+        boolean brotli = brotliAvailable();
+        if (!brotli) {
+            System.out.println("brotli not found on the PATH; writing gzip copies only");
+        }
+
+        List<Path> assets;
+        try (Stream<Path> files = Files.walk(root)) {
+            assets = files.filter(Files::isRegularFile).filter(PrecompressStaticAssets::isCompressible).toList();
+        }
+        int written = 0;
+        for (Path asset : assets) {
+            if (gzip(asset)) {
+                written++;
+            }
+            if (brotli && brotli(asset)) {
+                written++;
+            }
+        }
+        System.out.println(assets.size() + " compressible static assets, " + written + " compressed copies written");
+    }
+
+    private static boolean isCompressible(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 && COMPRESSIBLE.contains(name.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean gzip(Path asset) throws IOException {
+        Path target = sibling(asset, ".gz");
+        if (!needsUpdate(asset, target)) {
+            return false;
+        }
+        Path temp = sibling(asset, ".gz.tmp");
+        try (OutputStream out = new BestGzipOutputStream(Files.newOutputStream(temp))) {
+            Files.copy(asset, out);
+        }
+        return keepIfSmaller(asset, temp, target);
+    }
+
+    private static boolean brotli(Path asset) throws IOException, InterruptedException {
+        Path target = sibling(asset, ".br");
+        if (!needsUpdate(asset, target)) {
+            return false;
+        }
+        Path temp = sibling(asset, ".br.tmp");
+        Process process = new ProcessBuilder("brotli", "--quality=11", "--force", "--output=" + temp, asset.toString())
+                .inheritIO()
+                .start();
+        if (process.waitFor() != 0) {
+            throw new IOException("brotli failed for " + asset);
+        }
+        return keepIfSmaller(asset, temp, target);
+    }
+
+    private static boolean needsUpdate(Path asset, Path target) throws IOException {
+        if (Files.size(asset) < MIN_SIZE) {
+            Files.deleteIfExists(target);
+            return false;
+        }
+        return !Files.exists(target)
+                || Files.getLastModifiedTime(target).compareTo(Files.getLastModifiedTime(asset)) < 0;
+    }
+
+    private static boolean keepIfSmaller(Path asset, Path temp, Path target) throws IOException {
+        if (Files.size(temp) >= Files.size(asset)) {
+            Files.delete(temp);
+            Files.deleteIfExists(target);
+            return false;
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+
+    private static Path sibling(Path asset, String suffix) {
+        return asset.resolveSibling(asset.getFileName() + suffix);
+    }
+
+    private static boolean brotliAvailable() {
+        try {
+            Process process = new ProcessBuilder("brotli", "--version").redirectErrorStream(true).start();
+            process.getInputStream().transferTo(OutputStream.nullOutputStream());
+            return process.waitFor(10, TimeUnit.SECONDS) && process.exitValue() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static final class BestGzipOutputStream extends GZIPOutputStream {
+        BestGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
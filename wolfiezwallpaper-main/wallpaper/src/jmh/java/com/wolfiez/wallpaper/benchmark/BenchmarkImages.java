@@ -0,0 +1,64 @@
+package com.wolfiez.wallpaper.benchmark;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.SplittableRandom;
+
+/**
+ * Generates real JPEG files of a requested size for benchmarks.
+ *
+ * Random pixels compress about as badly as photos, so the encoded size grows with
+ * the pixel count; dimensions are adjusted until the file is close to the target
+ * without exceeding it.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+final class BenchmarkImages {
+
+    private BenchmarkImages() {
+    }
+
+    /**
+     * @param targetBytes Desired file size
+     * @return JPEG bytes no larger than {@code targetBytes}, within a few percent of it
+     */
+    static byte[] jpegOfSize(int targetBytes) {
+        SplittableRandom random = new SplittableRandom(42);
+        int side = (int) Math.sqrt(targetBytes / 1.5);
+        byte[] jpeg = encode(noise(side, side, random));
+        for (int attempt = 0; attempt < 8 && (jpeg.length > targetBytes || jpeg.length < targetBytes * 0.95); attempt++) {
+            side = Math.max(16, (int) (side * Math.sqrt((double) targetBytes / jpeg.length) * 0.99));
+            jpeg = encode(noise(side, side, random));
+        }
+        while (jpeg.length > targetBytes) {
+            side = (int) (side * 0.97);
+            jpeg = encode(noise(side, side, random));
+        }
+        return jpeg;
+    }
+
+    private static BufferedImage noise(int width, int height, SplittableRandom random) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0x1000000));
+            }
+        }
+        return image;
+    }
+
+    private static byte[] encode(BufferedImage image) {
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            ImageIO.write(image, "jpg", output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.wolfiez.wallpaper.benchmark;
+
+import com.wolfiez.wallpaper.DTO.BoardDto;
+import com.wolfiez.wallpaper.DTO.UserRegistrationDTO;
+import com.wolfiez.wallpaper.WallpaperApplication;
+import com.wolfiez.wallpaper.entity.Board;
+import com.wolfiez.wallpaper.service.BoardService;
+import com.wolfiez.wallpaper.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks board insert throughput with and without JDBC batching.
+ *
+ * Boots the application against an in-memory H2 database in PostgreSQL mode and
+ * creates {@code boardCount} boards per operation, either one transaction per board
+ * through {@code createBoard} or in a single {@code createBoards} call.
+ * {@code batchSize=1} turns Hibernate batching off. H2 runs in-process, so there is
+ * no network latency and the gain against a remote PostgreSQL is larger.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BoardInsertBenchmark {
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    @Param({"200"})
+    public int boardCount;
+
+    private ConfigurableApplicationContext context;
+    private Path storageRoot;
+    private BoardService boardService;
+    private Long userId;
+    private List<BoardDto> boards;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        storageRoot = Files.createTempDirectory("wallpaper-benchmark");
+        context = new SpringApplicationBuilder(WallpaperApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--wallpaper.search.type=memory",
+                "--wallpaper.storage.type=local",
+                "--wallpaper.storage.local.root=" + storageRoot,
+                "--wallpaper.storage.migrate-legacy=false",
+                "--logging.level.root=WARN");
+        boardService = context.getBean(BoardService.class);
+
+        UserRegistrationDTO registration = new UserRegistrationDTO();
+        registration.setName("Benchmark");
+        registration.setEmail("benchmark@example.com");
+        registration.setPassword("benchmark-password");
+        userId = context.getBean(UserService.class).registerUser(registration).getId();
+
+        boards = new ArrayList<>(boardCount);
+        for (int i = 0; i < boardCount; i++) {
+            BoardDto board = new BoardDto();
+            board.setName("Board " + i);
+            board.setDescription("Benchmark board number " + i);
+            board.setPrivate(i % 5 == 0);
+            boards.add(board);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        FileSystemUtils.deleteRecursively(storageRoot);
+    }
+
+    @Benchmark
+    public int createOneByOne() {
+        int created = 0;
+        for (BoardDto board : boards) {
+            boardService.createBoard(board, userId);
+            created++;
+        }
+        return created;
+    }
+
+    @Benchmark
+    public List<Board> createBatch() {
+        return boardService.createBoards(boards, userId);
+    }
+}
@@ -0,0 +1,98 @@
+package com.wolfiez.wallpaper.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wolfiez.wallpaper.DTO.BoardResponseDto;
+import com.wolfiez.wallpaper.entity.Board;
+import com.wolfiez.wallpaper.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for mapping boards to {@link BoardResponseDto} and for serializing
+ * board lists as entities versus DTOs with the ObjectMapper Spring MVC uses.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int boardCount;
+
+    private ObjectMapper objectMapper;
+    private List<Board> boards;
+    private List<BoardResponseDto> dtos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        User user = new User();
+        user.setId(1L);
+        user.setName("Benchmark");
+        user.setEmail("benchmark@example.com");
+
+        boards = new ArrayList<>(boardCount);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < boardCount; i++) {
+            Board board = new Board();
+            board.setId((long) i);
+            board.setName("Board " + i);
+            board.setDescription("Wallpapers collected for board number " + i);
+            board.setPrivate(i % 4 == 0);
+            board.setCreatedAt(now.minusMinutes(i));
+            board.setImageKey(String.format("%064x", i));
+            board.setUser(user);
+            boards.add(board);
+        }
+        dtos = mapToDtos();
+    }
+
+    @Benchmark
+    public List<BoardResponseDto> mapToDtos() {
+        List<BoardResponseDto> result = new ArrayList<>(boards.size());
+        for (Board board : boards) {
+            result.add(BoardResponseDto.fromBoard(board));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] serializeEntities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(boards);
+    }
+
+    @Benchmark
+    public byte[] serializeDtos() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeDtos() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapToDtos());
+    }
+}
@@ -0,0 +1,121 @@
+package com.wolfiez.wallpaper.benchmark;
+
+import com.wolfiez.wallpaper.metrics.ImageMetrics;
+import com.wolfiez.wallpaper.service.ImageService;
+import com.wolfiez.wallpaper.storage.ContentHash;
+import com.wolfiez.wallpaper.storage.ImageCache;
+import com.wolfiez.wallpaper.storage.ImageStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link ImageService} upload and legacy Base64 paths,
+ * over real JPEG files from 100 KB up to the 5 MB upload limit.
+ *
+ * The image store only hashes the bytes, so results measure the service's own
+ * CPU and allocation cost without disk noise.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ImageServiceBenchmark {
+
+    @Param({"100", "500", "1000", "2500", "5000"})
+    public int sizeKb;
+
+    private ImageService imageService;
+    private MockMultipartFile file;
+    private String encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        imageService = new ImageService(new HashingImageStore(), new ImageCache(0, 0, false),
+                new ImageMetrics(new SimpleMeterRegistry()));
+        byte[] jpeg = BenchmarkImages.jpegOfSize(sizeKb * 1024);
+        file = new MockMultipartFile("image", "benchmark.jpg", "image/jpeg", jpeg);
+        encoded = imageService.encodeImage(file);
+    }
+
+    @Benchmark
+    public String encodeImage() throws IOException {
+        return imageService.encodeImage(file);
+    }
+
+    @Benchmark
+    public byte[] decodeImage() {
+        return imageService.decodeImage(encoded);
+    }
+
+    @Benchmark
+    public String processImageForStorage() throws IOException {
+        return imageService.processImageForStorage(file);
+    }
+
+    /**
+     * Store that computes the content key like the real stores but keeps nothing.
+     */
+    static class HashingImageStore implements ImageStore {
+
+        @Override
+        public String store(byte[] data) {
+            return ContentHash.sha256Hex(data);
+        }
+
+        @Override
+        public String store(InputStream data) throws IOException {
+            MessageDigest digest = ContentHash.newDigest();
+            byte[] buffer = new byte[32 * 1024];
+            int read;
+            while ((read = data.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        }
+
+        @Override
+        public byte[] read(String key) throws IOException {
+            throw new IOException("Not stored: " + key);
+        }
+
+        @Override
+        public Resource load(String key) {
+            return new ByteArrayResource(new byte[0]);
+        }
+
+        @Override
+        public boolean exists(String key) {
+            return false;
+        }
+
+        @Override
+        public void delete(String key) {
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.wolfiez.wallpaper.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Records request latencies for one scenario.
+ *
+ * Each worker thread owns its recorders, so recording is a plain array append;
+ * recorders are merged once the run is over and percentiles are read from the
+ * sorted samples, without any bucketing error.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    void recordError() {
+        errors++;
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(samples.length * 2, count + other.count));
+        }
+        System.arraycopy(other.samples, 0, samples, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Sorts the samples; call once before reading percentiles.
+     */
+    void seal() {
+        Arrays.sort(samples, 0, count);
+    }
+
+    /**
+     * @param percentile Percentile between 0 and 100
+     * @return Latency in milliseconds at the given percentile, 0 if there are no samples
+     */
+    double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return samples[Math.max(0, Math.min(index, count - 1))] / 1_000_000.0;
+    }
+
+    double maxMillis() {
+        return count == 0 ? 0 : samples[count - 1] / 1_000_000.0;
+    }
+}
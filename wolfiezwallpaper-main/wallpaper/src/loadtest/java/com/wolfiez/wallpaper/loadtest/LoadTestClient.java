@@ -0,0 +1,142 @@
+package com.wolfiez.wallpaper.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP client for one virtual user: a session cookie for the Thymeleaf pages and
+ * a bearer token for the API, like a browser and an API client of the same account.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+class LoadTestClient {
+
+    private static final Pattern CSRF_INPUT = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final String baseUrl;
+    private final String email;
+    private final String password;
+    private final HttpClient http;
+    private String accessToken;
+
+    LoadTestClient(String baseUrl, String email, String password) {
+        this.baseUrl = baseUrl;
+        this.email = email;
+        this.password = password;
+        this.http = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Signs in through the login form so session-backed pages can be requested.
+     */
+    void loginForm() throws IOException, InterruptedException {
+        HttpResponse<String> page = http.send(request("/login").GET().build(), HttpResponse.BodyHandlers.ofString());
+        Matcher csrf = CSRF_INPUT.matcher(page.body());
+        if (!csrf.find()) {
+            throw new IllegalStateException("No CSRF token on the login page");
+        }
+        String form = "username=" + encode(email) + "&password=" + encode(password) + "&_csrf=" + encode(csrf.group(1));
+        HttpResponse<Void> response = http.send(request("/login")
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("Form login failed for " + email);
+        }
+    }
+
+    /**
+     * Obtains an access token from the API login endpoint.
+     *
+     * @return HTTP status of the login request
+     */
+    int loginApi() throws IOException, InterruptedException {
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+        HttpResponse<String> response = http.send(request("/api/auth/login")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher token = ACCESS_TOKEN.matcher(response.body());
+        if (response.statusCode() == 200 && token.find()) {
+            accessToken = token.group(1);
+        }
+        return response.statusCode();
+    }
+
+    /**
+     * Requests a session-backed page and reads the whole body.
+     *
+     * @return HTTP status
+     */
+    int getPage(String path) throws IOException, InterruptedException {
+        return http.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofByteArray()).statusCode();
+    }
+
+    /**
+     * Requests an API resource with the bearer token and reads the whole body.
+     *
+     * @return HTTP status
+     */
+    int getApi(String path) throws IOException, InterruptedException {
+        return http.send(authorized(path).GET().build(), HttpResponse.BodyHandlers.ofByteArray()).statusCode();
+    }
+
+    /**
+     * Uploads an image as multipart form data with the bearer token.
+     *
+     * @return HTTP status
+     */
+    int upload(String path, byte[] jpeg) throws IOException, InterruptedException {
+        String boundary = "----loadtest" + UUID.randomUUID();
+        byte[] head = ("--" + boundary + "\r\n" +
+                "Content-Disposition: form-data; name=\"image\"; filename=\"upload.jpg\"\r\n" +
+                "Content-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        byte[] tail = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+
+        byte[] body = new byte[head.length + jpeg.length + tail.length];
+        System.arraycopy(head, 0, body, 0, head.length);
+        System.arraycopy(jpeg, 0, body, head.length, jpeg.length);
+        System.arraycopy(tail, 0, body, head.length + jpeg.length, tail.length);
+
+        return http.send(authorized(path)
+                        .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        if (accessToken == null) {
+            throw new IllegalStateException("Not logged in to the API");
+        }
+        return request(path).header("Authorization", "Bearer " + accessToken);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
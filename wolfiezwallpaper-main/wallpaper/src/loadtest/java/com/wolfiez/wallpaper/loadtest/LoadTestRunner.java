@@ -0,0 +1,382 @@
+package com.wolfiez.wallpaper.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wolfiez.wallpaper.DTO.BoardDto;
+import com.wolfiez.wallpaper.DTO.UserRegistrationDTO;
+import com.wolfiez.wallpaper.WallpaperApplication;
+import com.wolfiez.wallpaper.entity.Board;
+import com.wolfiez.wallpaper.entity.User;
+import com.wolfiez.wallpaper.service.BoardService;
+import com.wolfiez.wallpaper.service.UserService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.FileSystemUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Self-contained HTTP load test.
+ *
+ * Starts the whole application on a random local port against an in-memory H2
+ * database in PostgreSQL mode, seeds users, boards and images through the
+ * services, then runs one virtual user per thread for a warmup and a measured
+ * period. Each virtual user picks scenarios at random by weight. Only requests
+ * that start and finish inside the measured period are recorded.
+ *
+ * Reports throughput and p50/p99/p999 latency per scenario on stdout and as JSON.
+ * With {@code loadtest.threading=both} the run is repeated on a fresh application
+ * with virtual threads enabled, and the two modes are compared side by side.
+ * A virtual user that stops on an unexpected error is counted in the report, and
+ * the run then fails so a short-handed result is not mistaken for a clean one.
+ * Nothing leaves the machine: the database, image store and clients are all local.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+public class LoadTestRunner {
+
+    private static final String PASSWORD = "loadtest-password";
+    private static final int IMAGE_POOL_SIZE = 32;
+
+    enum Scenario {
+        PUBLIC_FEED("GET /boards/public", 30),
+        DASHBOARD("GET /dashboard", 20),
+        BOARD_IMAGE("GET /api/boards/{id}/image", 35),
+        API_LOGIN("POST /api/auth/login", 10),
+        UPLOAD("POST /api/boards/{id}/image", 5);
+
+        private final String label;
+        private final int weight;
+
+        Scenario(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = Integer.getInteger("loadtest.threads", 16);
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+        int userCount = Math.max(threads, Integer.getInteger("loadtest.users", 64));
+        int boardsPerUser = Integer.getInteger("loadtest.boards-per-user", 20);
+        Path resultFile = Paths.get(System.getProperty("loadtest.result", "target/loadtest-result.json"));
+        String threading = System.getProperty("loadtest.threading", "platform");
+
+        List<String> modes = switch (threading) {
+            case "platform", "virtual" -> List.of(threading);
+            case "both" -> List.of("platform", "virtual");
+            default -> throw new IllegalArgumentException("loadtest.threading must be platform, virtual or both");
+        };
+        if (modes.contains("virtual") && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need JDK 21 or later, running " + Runtime.version());
+        }
+
+        List<byte[]> images = generateImages();
+        Map<String, RunResult> results = new LinkedHashMap<>();
+        for (String mode : modes) {
+            results.put(mode, runMode(mode, threads, userCount, boardsPerUser, images, warmup, duration));
+        }
+        report(results, duration, threads, resultFile);
+
+        int failedWorkers = results.values().stream().mapToInt(result -> result.failedWorkers).sum();
+        if (failedWorkers > 0) {
+            throw new IllegalStateException(failedWorkers + " virtual users stopped early, results are incomplete");
+        }
+    }
+
+    /**
+     * Starts a fresh application with the given threading mode, seeds it and runs the load.
+     */
+    private static RunResult runMode(String mode, int threads, int userCount, int boardsPerUser,
+                                     List<byte[]> images, Duration warmup, Duration duration)
+            throws IOException, InterruptedException {
+        Path storageRoot = Files.createTempDirectory("wallpaper-loadtest");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(WallpaperApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest_" + mode
+                        + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.show-sql=false",
+                "--spring.threads.virtual.enabled=" + mode.equals("virtual"),
+                "--wallpaper.search.type=memory",
+                "--wallpaper.storage.type=local",
+                "--wallpaper.storage.local.root=" + storageRoot,
+                "--wallpaper.storage.migrate-legacy=false");
+        try {
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            System.out.printf("[%s] Seeding %d users with %d boards each...%n", mode, userCount, boardsPerUser);
+            List<SeededUser> users = seed(context, userCount, boardsPerUser, images);
+            List<Long> allBoardIds = new ArrayList<>();
+            users.forEach(user -> allBoardIds.addAll(user.boardIds));
+
+            System.out.printf("[%s] Running %d virtual users: %s warmup, %s measured%n", mode, threads, warmup, duration);
+            return run(baseUrl, users.subList(0, threads), allBoardIds, images, warmup, duration);
+        } finally {
+            context.close();
+            FileSystemUtils.deleteRecursively(storageRoot);
+        }
+    }
+
+    private static List<SeededUser> seed(ConfigurableApplicationContext context, int userCount, int boardsPerUser,
+                                         List<byte[]> images) throws IOException {
+        UserService userService = context.getBean(UserService.class);
+        BoardService boardService = context.getBean(BoardService.class);
+
+        List<SeededUser> users = new ArrayList<>(userCount);
+        int imageIndex = 0;
+        for (int u = 0; u < userCount; u++) {
+            UserRegistrationDTO registration = new UserRegistrationDTO();
+            registration.setName("Load User " + u);
+            registration.setEmail("load" + u + "@example.com");
+            registration.setPassword(PASSWORD);
+            User user = userService.registerUser(registration);
+
+            SeededUser seeded = new SeededUser(user.getEmail());
+            for (int b = 0; b < boardsPerUser; b++) {
+                BoardDto boardDto = new BoardDto();
+                boardDto.setName("Board " + b + " of user " + u);
+                boardDto.setDescription("Synthetic wallpapers, set " + b);
+                boardDto.setPrivate(b % 5 == 0);
+                Board board = boardService.createBoard(boardDto, user.getId());
+
+                byte[] image = images.get(imageIndex++ % images.size());
+                boardService.updateBoardImage(board.getId(),
+                        new MockMultipartFile("image", "seed.jpg", "image/jpeg", image));
+                seeded.boardIds.add(board.getId());
+            }
+            users.add(seeded);
+        }
+        return users;
+    }
+
+    private static RunResult run(String baseUrl, List<SeededUser> users, List<Long> allBoardIds,
+                                 List<byte[]> images, Duration warmup, Duration duration)
+            throws InterruptedException {
+        long measureStart = System.nanoTime() + warmup.toNanos();
+        long measureEnd = measureStart + duration.toNanos();
+        int totalWeight = 0;
+        for (Scenario scenario : Scenario.values()) {
+            totalWeight += scenario.weight;
+        }
+        int weightSum = totalWeight;
+
+        List<Map<Scenario, LatencyRecorder>> perThread = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(users.size());
+        AtomicInteger failedWorkers = new AtomicInteger();
+        for (SeededUser user : users) {
+            Map<Scenario, LatencyRecorder> recorders = newRecorders();
+            perThread.add(recorders);
+            Thread worker = new Thread(() -> {
+                boolean finished = false;
+                try {
+                    LoadTestClient client = new LoadTestClient(baseUrl, user.email, PASSWORD);
+                    client.loginForm();
+                    client.loginApi();
+                    while (System.nanoTime() < measureEnd) {
+                        Scenario scenario = pick(weightSum);
+                        long start = System.nanoTime();
+                        boolean ok = execute(client, scenario, user, allBoardIds, images);
+                        long end = System.nanoTime();
+                        if (start >= measureStart && end <= measureEnd) {
+                            if (ok) {
+                                recorders.get(scenario).record(end - start);
+                            } else {
+                                recorders.get(scenario).recordError();
+                            }
+                        }
+                    }
+                    finished = true;
+                } catch (Exception e) {
+                    System.err.println("Virtual user " + user.email + " stopped: " + e);
+                } finally {
+                    if (!finished) {
+                        failedWorkers.incrementAndGet();
+                    }
+                    done.countDown();
+                }
+            }, "loadtest-" + user.email);
+            worker.start();
+        }
+        done.await();
+
+        Map<Scenario, LatencyRecorder> merged = newRecorders();
+        for (Map<Scenario, LatencyRecorder> recorders : perThread) {
+            recorders.forEach((scenario, recorder) -> merged.get(scenario).merge(recorder));
+        }
+        merged.values().forEach(LatencyRecorder::seal);
+        return new RunResult(merged, failedWorkers.get());
+    }
+
+    private static boolean execute(LoadTestClient client, Scenario scenario, SeededUser user, List<Long> allBoardIds,
+                                   List<byte[]> images) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            int status = switch (scenario) {
+                case PUBLIC_FEED -> client.getPage("/boards/public");
+                case DASHBOARD -> client.getPage("/dashboard");
+                case BOARD_IMAGE -> client.getApi("/api/boards/" + allBoardIds.get(random.nextInt(allBoardIds.size()))
+                        + "/image?size=thumb");
+                case API_LOGIN -> client.loginApi();
+                case UPLOAD -> client.upload("/api/boards/" + user.boardIds.get(random.nextInt(user.boardIds.size()))
+                        + "/image", images.get(random.nextInt(images.size())));
+            };
+            return status >= 200 && status < 400;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Scenario pick(int totalWeight) {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Scenario scenario : Scenario.values()) {
+            roll -= scenario.weight;
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        return Scenario.PUBLIC_FEED;
+    }
+
+    private static void report(Map<String, RunResult> results, Duration duration, int threads,
+                               Path resultFile) throws IOException {
+        double seconds = duration.toMillis() / 1000.0;
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("threads", threads);
+        json.put("durationSeconds", seconds);
+        Map<String, Object> modes = new LinkedHashMap<>();
+
+        results.forEach((mode, result) -> {
+            Map<String, Object> scenarios = new LinkedHashMap<>();
+            System.out.printf("%n[%s threads]%n%-30s %9s %7s %9s %9s %9s %9s %9s%n", mode,
+                    "scenario", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+            for (Scenario scenario : Scenario.values()) {
+                LatencyRecorder recorder = result.recorders.get(scenario);
+                double throughput = recorder.getCount() / seconds;
+                System.out.printf("%-30s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                        scenario.label, recorder.getCount(), recorder.getErrors(), throughput,
+                        recorder.percentileMillis(50), recorder.percentileMillis(99),
+                        recorder.percentileMillis(99.9), recorder.maxMillis());
+
+                Map<String, Object> stats = new LinkedHashMap<>();
+                stats.put("requests", recorder.getCount());
+                stats.put("errors", recorder.getErrors());
+                stats.put("throughputPerSecond", throughput);
+                stats.put("p50Millis", recorder.percentileMillis(50));
+                stats.put("p99Millis", recorder.percentileMillis(99));
+                stats.put("p999Millis", recorder.percentileMillis(99.9));
+                stats.put("maxMillis", recorder.maxMillis());
+                scenarios.put(scenario.label, stats);
+            }
+            if (result.failedWorkers > 0) {
+                System.out.printf("%d of %d virtual users stopped early%n", result.failedWorkers, threads);
+            }
+            Map<String, Object> modeJson = new LinkedHashMap<>();
+            modeJson.put("failedVirtualUsers", result.failedWorkers);
+            modeJson.put("scenarios", scenarios);
+            modes.put(mode, modeJson);
+        });
+        json.put("threading", modes);
+
+        if (results.size() == 2) {
+            Map<Scenario, LatencyRecorder> platform = results.get("platform").recorders;
+            Map<Scenario, LatencyRecorder> virtual = results.get("virtual").recorders;
+            System.out.printf("%n%-30s %14s %14s %14s %14s%n",
+                    "scenario", "platform req/s", "virtual req/s", "platform p99", "virtual p99");
+            for (Scenario scenario : Scenario.values()) {
+                System.out.printf("%-30s %14.1f %14.1f %14.2f %14.2f%n", scenario.label,
+                        platform.get(scenario).getCount() / seconds, virtual.get(scenario).getCount() / seconds,
+                        platform.get(scenario).percentileMillis(99), virtual.get(scenario).percentileMillis(99));
+            }
+        }
+
+        if (resultFile.getParent() != null) {
+            Files.createDirectories(resultFile.getParent());
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(resultFile.toFile(), json);
+        System.out.println("\nResults written to " + resultFile.toAbsolutePath());
+    }
+
+    private static Map<Scenario, LatencyRecorder> newRecorders() {
+        Map<Scenario, LatencyRecorder> recorders = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            recorders.put(scenario, new LatencyRecorder());
+        }
+        return recorders;
+    }
+
+    /**
+     * Photo-like JPEGs between roughly 50 and 300 KB: smooth gradients with noise.
+     */
+    private static List<byte[]> generateImages() throws IOException {
+        SplittableRandom random = new SplittableRandom(7);
+        List<byte[]> images = new ArrayList<>(IMAGE_POOL_SIZE);
+        for (int i = 0; i < IMAGE_POOL_SIZE; i++) {
+            int width = 480 + random.nextInt(640);
+            int height = width * 9 / 16;
+            BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            int hue = random.nextInt(256);
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    int r = (hue + x * 255 / width + random.nextInt(48)) & 0xFF;
+                    int g = (y * 255 / height + random.nextInt(48)) & 0xFF;
+                    int b = (255 - hue + random.nextInt(48)) & 0xFF;
+                    image.setRGB(x, y, (r << 16) | (g << 8) | b);
+                }
+            }
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            ImageIO.write(image, "jpg", output);
+            images.add(output.toByteArray());
+        }
+        return images;
+    }
+
+    /**
+     * Merged latencies of one threading mode and how many virtual users did not run to the end.
+     */
+    private static final class RunResult {
+        private final Map<Scenario, LatencyRecorder> recorders;
+        private final int failedWorkers;
+
+        private RunResult(Map<Scenario, LatencyRecorder> recorders, int failedWorkers) {
+            this.recorders = recorders;
+            this.failedWorkers = failedWorkers;
+        }
+    }
+
+    private static final class SeededUser {
+        private final String email;
+        private final List<Long> boardIds = new ArrayList<>();
+
+        private SeededUser(String email) {
+            this.email = email;
+        }
+    }
+}
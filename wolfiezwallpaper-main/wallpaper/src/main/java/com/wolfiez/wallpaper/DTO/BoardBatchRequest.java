@@ -0,0 +1,18 @@
+package com.wolfiez.wallpaper.DTO;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request body for creating several boards for one user in a single call.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Data
+public class BoardBatchRequest {
+    private Long userId;
+    private List<BoardDto> boards;
+}
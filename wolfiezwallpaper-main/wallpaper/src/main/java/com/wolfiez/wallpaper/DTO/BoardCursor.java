@@ -0,0 +1,61 @@
+package com.wolfiez.wallpaper.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the public board feed, ordered by {@code (createdAt, id)} descending.
+ *
+ * Serialized as an opaque URL-safe token so clients only pass it back as-is.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Data
+@AllArgsConstructor
+public class BoardCursor {
+    private LocalDateTime createdAt;
+    private Long id;
+
+    public static BoardCursor of(BoardSummary board) {
+        return new BoardCursor(board.getCreatedAt(), board.getId());
+    }
+
+    /**
+     * Encodes the cursor into an opaque token.
+     *
+     * @return URL-safe token
+     */
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token Cursor token
+     * @return Decoded cursor
+     * @throws IllegalArgumentException If the token is malformed
+     */
+    public static BoardCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new BoardCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -12,6 +12,10 @@ public class BoardResponseDto {
     private boolean isPrivate;
     private LocalDateTime createdAt;
     private Long userId;
+    private Integer imageWidth;
+    private Integer imageHeight;
+    private String imageFormat;
+    private String imageColorType;
 
     public static BoardResponseDto fromBoard(Board board) {
         BoardResponseDto dto = new BoardResponseDto();
@@ -21,6 +25,10 @@ public class BoardResponseDto {
         dto.setPrivate(board.isPrivate());
         dto.setCreatedAt(board.getCreatedAt());
         dto.setUserId(board.getUserId());
+        dto.setImageWidth(board.getImageWidth());
+        dto.setImageHeight(board.getImageHeight());
+        dto.setImageFormat(board.getImageFormat() != null ? board.getImageFormat().name() : null);
+        dto.setImageColorType(board.getImageColorType() != null ? board.getImageColorType().name() : null);
         return dto;
     }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.wolfiez.wallpaper.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of board search results, best match first.
+ *
+ * No total count is computed, since counting every match would cost as much as
+ * the search itself; {@code hasNext} tells whether another page exists.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Data
+@AllArgsConstructor
+public class BoardSearchPage {
+    private List<BoardSummary> boards;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
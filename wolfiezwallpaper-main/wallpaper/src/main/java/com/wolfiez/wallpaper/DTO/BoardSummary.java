@@ -0,0 +1,54 @@
+package com.wolfiez.wallpaper.DTO;
+
+import com.wolfiez.wallpaper.entity.Board;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight read model for board listings.
+ *
+ * Built directly by JPQL constructor expressions so listing queries never
+ * touch the image column; {@code hasImage} and {@code imageVersion} are computed in SQL.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Data
+@NoArgsConstructor
+public class BoardSummary {
+    private Long id;
+    private String name;
+    private String description;
+    private boolean isPrivate;
+    private LocalDateTime createdAt;
+    private Long userId;
+    private boolean hasImage;
+    private String imageVersion;
+
+    public BoardSummary(Long id, String name, String description, Boolean isPrivate,
+                        LocalDateTime createdAt, Long userId, Boolean hasImage, String imageVersion) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.isPrivate = Boolean.TRUE.equals(isPrivate);
+        this.createdAt = createdAt;
+        this.userId = userId;
+        this.hasImage = Boolean.TRUE.equals(hasImage);
+        this.imageVersion = imageVersion;
+    }
+
+    /**
+     * Builds a summary from a loaded board, for code paths that already hold the entity.
+     *
+     * @param board Board entity
+     * @return Summary of the board
+     */
+    public static BoardSummary fromBoard(Board board) {
+        return new BoardSummary(board.getId(), board.getName(), board.getDescription(), board.isPrivate(),
+                board.getCreatedAt(), board.getUserId(), board.getImageKey() != null,
+                ImageReference.versionOf(board.getImageKey()));
+    }
+}
@@ -0,0 +1,54 @@
+package com.wolfiez.wallpaper.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Metadata needed to serve a stored image without reading its bytes.
+ *
+ * {@code key} is the content hash of the bytes actually served and doubles as a
+ * strong ETag. {@code version} identifies the uploaded original and is what clients
+ * put in versioned URLs. {@code exact} is false when a smaller rendition was
+ * requested but the original had to be served because it is not generated yet.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Data
+@AllArgsConstructor
+public class ImageReference {
+    public static final int VERSION_LENGTH = 16;
+
+    private String key;
+    private String version;
+    private boolean exact;
+    private Instant lastModified;
+
+    public static ImageReference of(String servedKey, String originalKey, boolean exact, LocalDateTime updatedAt) {
+        return new ImageReference(servedKey, versionOf(originalKey), exact,
+                updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant() : null);
+    }
+
+    /**
+     * Derives the short version token used in image URLs from an image key.
+     *
+     * @param imageKey Key of the original image
+     * @return Version token, or null if there is no image
+     */
+    public static String versionOf(String imageKey) {
+        return imageKey != null ? imageKey.substring(0, VERSION_LENGTH) : null;
+    }
+
+    public String getETag() {
+        return "\"" + key + "\"";
+    }
+
+    public long getLastModifiedMillis() {
+        return lastModified != null ? lastModified.toEpochMilli() : -1;
+    }
+}
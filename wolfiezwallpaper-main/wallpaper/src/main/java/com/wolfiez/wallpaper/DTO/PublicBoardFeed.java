@@ -0,0 +1,22 @@
+package com.wolfiez.wallpaper.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of the public board feed.
+ *
+ * {@code nextCursor} is null when there are no more boards.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Data
+@AllArgsConstructor
+public class PublicBoardFeed {
+    private List<BoardSummary> boards;
+    private String nextCursor;
+}
@@ -0,0 +1,17 @@
+package com.wolfiez.wallpaper.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TokenResponse {
+    private String email;
+    private String name;
+    private boolean success;
+    private String message;
+    private String accessToken;
+    private String refreshToken;
+    private String tokenType;
+    private long expiresIn;
+}
@@ -0,0 +1,42 @@
+package com.wolfiez.wallpaper.DTO;
+
+import com.wolfiez.wallpaper.entity.Role;
+import com.wolfiez.wallpaper.entity.User;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * API representation of a user. Never exposes the password, boards or image bytes.
+ *
+ * {@code roles} is read from the entity, so callers should load users with the
+ * roles fetch plan of {@code UserRepository} to avoid an extra query per user.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Data
+public class UserResponseDto {
+    private Long id;
+    private String name;
+    private String email;
+    private boolean active;
+    private LocalDateTime createdAt;
+    private String profileImageVersion;
+    private Set<String> roles;
+
+    public static UserResponseDto fromUser(User user) {
+        UserResponseDto dto = new UserResponseDto();
+        dto.setId(user.getId());
+        dto.setName(user.getName());
+        dto.setEmail(user.getEmail());
+        dto.setActive(user.isActive());
+        dto.setCreatedAt(user.getCreatedAt());
+        dto.setProfileImageVersion(ImageReference.versionOf(user.getProfileImageKey()));
+        dto.setRoles(user.getRoles().stream().map(Role::getName).collect(Collectors.toSet()));
+        return dto;
+    }
+}
@@ -0,0 +1,25 @@
+package com.wolfiez.wallpaper.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of user search results, ordered by name.
+ *
+ * Like {@link BoardSearchPage} no total count is computed; {@code hasNext}
+ * tells whether another page exists.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Data
+@AllArgsConstructor
+public class UserSearchPage {
+    private List<UserSummary> users;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
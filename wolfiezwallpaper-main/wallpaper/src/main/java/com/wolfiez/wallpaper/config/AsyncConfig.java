@@ -0,0 +1,62 @@
+package com.wolfiez.wallpaper.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Configuración de ejecución asíncrona.
+ *
+ * Define un ejecutor acotado para el procesamiento de imágenes en segundo plano,
+ * de forma que la generación de miniaturas no compita sin límite con las peticiones.
+ * Cuando la cola está llena la tarea se ejecuta en el hilo que la envía,
+ * lo que frena las subidas en lugar de descartar trabajo.
+ *
+ * En el modo de hilos virtuales ({@link VirtualThreadConfig}) cada tarea usa un hilo
+ * virtual nuevo y el mismo número de hilos pasa a ser el límite de concurrencia:
+ * al alcanzarlo el envío espera, con el mismo efecto de frenar las subidas.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String IMAGE_EXECUTOR = "imageTaskExecutor";
+
+    @Bean(name = IMAGE_EXECUTOR)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor imageTaskExecutor(
+            @Value("${wallpaper.images.executor.threads:2}") int threads,
+            @Value("${wallpaper.images.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = IMAGE_EXECUTOR)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualImageTaskExecutor(@Value("${wallpaper.images.executor.threads:2}") int threads) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("image-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(threads);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+}
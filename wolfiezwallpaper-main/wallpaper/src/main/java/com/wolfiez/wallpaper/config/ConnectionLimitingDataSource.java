@@ -0,0 +1,170 @@
+package com.wolfiez.wallpaper.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource que limita cuántas conexiones pueden estar en uso a la vez.
+ *
+ * Con hilos virtuales Tomcat ya no acota la concurrencia, de modo que miles de
+ * peticiones pueden quedar esperando dentro del pool. Este envoltorio concede como
+ * mucho {@code maxConcurrent} conexiones mediante un semáforo justo (FIFO), acota
+ * también cuántas peticiones pueden esperar y rechaza de inmediato las que sobran,
+ * convirtiendo la sobrecarga en errores rápidos en lugar de esperas de 30 segundos.
+ * El semáforo aparca los hilos virtuales sin fijarlos al hilo portador.
+ *
+ * Cada pool lleva su propio limitador, dimensionado a su tamaño, de modo que el
+ * tráfico de una réplica no consume permisos del primario ni al revés.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxWaiting;
+    private final Duration acquireTimeout;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public ConnectionLimitingDataSource(DataSource target, int maxConcurrent, int maxWaiting, Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWaiting = maxWaiting;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * Crea el limitador de un pool Hikari con la espera máxima de
+     * {@code wallpaper.jdbc.max-waiting} y {@code wallpaper.jdbc.acquire-timeout}.
+     *
+     * @param pool Pool a limitar
+     * @param maxConcurrent Conexiones en uso a la vez como máximo
+     * @param environment Entorno de la aplicación
+     * @return DataSource limitado
+     */
+    public static ConnectionLimitingDataSource forPool(HikariDataSource pool, int maxConcurrent, Environment environment) {
+        return new ConnectionLimitingDataSource(pool, maxConcurrent,
+                environment.getProperty("wallpaper.jdbc.max-waiting", Integer.class, 200),
+                environment.getProperty("wallpaper.jdbc.acquire-timeout", Duration.class, Duration.ofSeconds(2)));
+    }
+
+    /**
+     * Publica las peticiones en espera y los permisos libres, etiquetados con el pool.
+     *
+     * @param registry Registro de métricas
+     * @param pool Nombre del pool limitado
+     */
+    public void registerMetrics(MeterRegistry registry, String pool) {
+        Gauge.builder("wallpaper.jdbc.limiter.waiting", this, ConnectionLimitingDataSource::getWaiting)
+                .description("Requests waiting for a database connection")
+                .tag("pool", pool)
+                .register(registry);
+        Gauge.builder("wallpaper.jdbc.limiter.available", this, ConnectionLimitingDataSource::getAvailablePermits)
+                .description("Database connections that can be granted without waiting")
+                .tag("pool", pool)
+                .register(registry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * @return Número de peticiones esperando una conexión
+     */
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    /**
+     * @return Conexiones que aún pueden concederse sin esperar
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            throw new SQLTransientConnectionException("Too many requests waiting for a database connection");
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "No database connection available within " + acquireTimeout.toMillis() + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * Envuelve la conexión para devolver el permiso al cerrarla, una sola vez.
+     */
+    private Connection limited(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        } finally {
+                            permits.release();
+                        }
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
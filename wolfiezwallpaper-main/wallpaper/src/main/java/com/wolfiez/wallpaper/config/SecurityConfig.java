@@ -1,25 +1,51 @@
 package com.wolfiez.wallpaper.config;
 
 
+import com.wolfiez.wallpaper.security.JwtAuthenticationFilter;
+import com.wolfiez.wallpaper.security.JwtService;
+import com.wolfiez.wallpaper.security.TimedAuthenticationProvider;
+import com.wolfiez.wallpaper.security.TimedPasswordEncoder;
 import com.wolfiez.wallpaper.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
 
 /**
  * Configuración de seguridad para la aplicación Spring Security.
  *
  * Configura:
- * - Filtros de seguridad HTTP
+ * - Cadena para los endpoints de Actuator con un usuario de métricas propio
+ * - Cadena sin estado para {@code /api/**} con tokens Bearer firmados
+ * - Cadena con sesión y formulario de login para las vistas Thymeleaf
  * - Rutas de autenticación
  * - Manejo de inicio de sesión y cierre de sesión
  * - Codificación de contraseñas
@@ -33,37 +59,168 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class SecurityConfig implements WebMvcConfigurer {
 
     private final UserDetailsService userDetailsService;
+    private final JwtService jwtService;
 
-    public SecurityConfig(CustomUserDetailsService userDetailsService) {
+    public SecurityConfig(CustomUserDetailsService userDetailsService, JwtService jwtService) {
         this.userDetailsService = userDetailsService;
+        this.jwtService = jwtService;
     }
+    /**
+     * Sirve los recursos estáticos con URLs versionadas por contenido.
+     *
+     * Las plantillas generan enlaces como {@code /js/createboard-<hash>.js} a través de
+     * {@link ResourceUrlEncodingFilter}, por lo que cada cambio de contenido es una URL
+     * nueva y las respuestas se pueden guardar un año como inmutables. Si el cliente
+     * acepta brotli o gzip se sirve la copia precomprimida en la compilación.
+     *
+     * @param registry Registro de manejadores de recursos
+     */
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/static/js/**")
-                .addResourceLocations("classpath:/static/js/")
-                .setCachePeriod(3600);
+        addVersionedResources(registry, "/js/**", "classpath:/static/js/");
+        addVersionedResources(registry, "/img/**", "classpath:/static/img/");
+    }
+
+    private static void addVersionedResources(ResourceHandlerRegistry registry, String pattern, String location) {
+        registry.addResourceHandler(pattern)
+                .addResourceLocations(location)
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    /**
+     * Reescribe los enlaces a recursos estáticos generados por Thymeleaf con su versión.
+     *
+     * @return Filtro que aplica la versión al codificar las URLs de la respuesta
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+
+    /**
+     * Configura la cadena de filtros de seguridad para los endpoints de Actuator.
+     *
+     * {@code /actuator/health} es público para las sondas. El resto, incluido
+     * {@code /actuator/prometheus}, exige HTTP Basic con el usuario de métricas
+     * definido en {@code wallpaper.metrics.username} y {@code wallpaper.metrics.password},
+     * separado de las cuentas de la aplicación. Ambos valores son obligatorios:
+     * si faltan o están vacíos la aplicación no arranca.
+     *
+     * @param http Configurador de seguridad HTTP de Spring
+     * @param passwordEncoder Codificador usado para la contraseña del usuario de métricas
+     * @param username Usuario de métricas
+     * @param password Contraseña del usuario de métricas
+     * @return Cadena de filtros de seguridad para Actuator
+     * @throws IllegalArgumentException Si el usuario o la contraseña de métricas no están definidos
+     * @throws Exception Si hay un error en la configuración de seguridad
+     */
+    @Bean
+    @Order(0)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http, PasswordEncoder passwordEncoder,
+                                                           @Value("${wallpaper.metrics.username}") String username,
+                                                           @Value("${wallpaper.metrics.password}") String password)
+            throws Exception {
+        if (username == null || username.isBlank() || password == null || password.isBlank()) {
+            throw new IllegalArgumentException("wallpaper.metrics.username and wallpaper.metrics.password must be set");
+        }
+        InMemoryUserDetailsManager metricsUsers = new InMemoryUserDetailsManager(User.withUsername(username)
+                .password(passwordEncoder.encode(password))
+                .roles("METRICS")
+                .build());
+
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .userDetailsService(metricsUsers)
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .anyRequest().hasRole("METRICS")
+                )
+                .httpBasic(basic -> { })
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                );
+
+        return http.build();
+    }
+
+    /**
+     * Configura la cadena de filtros para la API REST.
+     *
+     * Nunca crea sesiones: los clientes de la API se autentican con el token
+     * de acceso emitido por {@code /api/auth/login}, por lo que cualquier nodo
+     * puede atender la petición sin estado compartido. Las páginas Thymeleaf
+     * que llaman a la API con la cookie de sesión existente se siguen aceptando,
+     * ya que la sesión se lee pero no se crea ni se guarda desde esta cadena.
+     * Las peticiones con token Bearer no necesitan token CSRF.
+     *
+     * @param http Configurador de seguridad HTTP de Spring
+     * @return Cadena de filtros de seguridad para {@code /api/**}
+     * @throws Exception Si hay un error en la configuración de seguridad
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http) throws Exception {
+        HttpSessionSecurityContextRepository sessionContext = new HttpSessionSecurityContextRepository();
+        sessionContext.setAllowSessionCreation(false);
+
+        http
+                .securityMatcher("/api/**")
+                .userDetailsService(userDetailsService)
+                .csrf(csrf -> csrf
+                        .csrfTokenRepository(CookieCsrfTokenRepository.withHttpOnlyFalse())
+                        .ignoringRequestMatchers("/api/auth/**")
+                        .ignoringRequestMatchers(JwtAuthenticationFilter::hasBearerToken)
+                )
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/api/auth/login", "/api/auth/register", "/api/auth/refresh").permitAll()
+                        .anyRequest().authenticated()
+                )
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .securityContext(context -> context
+                        .securityContextRepository(sessionContext)
+                )
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+                )
+                .addFilterBefore(new JwtAuthenticationFilter(jwtService), UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
     }
 
     /**
-     * Configura la cadena de filtros de seguridad HTTP.
+     * Configura la cadena de filtros de seguridad HTTP para las vistas.
      *
      * Establece reglas de autorización, configuración de inicio de sesión,
-     * cierre de sesión y gestión de sesiones.
+     * cierre de sesión y gestión de sesiones. El login por formulario se mide
+     * con {@link TimedAuthenticationProvider}, igual que el de la API.
      *
      * @param http Configurador de seguridad HTTP de Spring
+     * @param passwordEncoder Codificador con el que se comprueban las contraseñas
+     * @param meterRegistry Registro de métricas
      * @return Cadena de filtros de seguridad configurada
      * @throws Exception Si hay un error en la configuración de seguridad
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    @Order(2)
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, PasswordEncoder passwordEncoder,
+                                                   MeterRegistry meterRegistry) throws Exception {
+        DaoAuthenticationProvider formLogin = new DaoAuthenticationProvider(passwordEncoder);
+        formLogin.setUserDetailsService(userDetailsService);
+
         http
-                .userDetailsService(userDetailsService)
+                .authenticationProvider(new TimedAuthenticationProvider(formLogin, meterRegistry))
                 .csrf(csrf -> csrf
                         .csrfTokenRepository(CookieCsrfTokenRepository.withHttpOnlyFalse())
                 )
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/css/**").permitAll()
-                        .requestMatchers("/static/js/**").permitAll()
+                        .requestMatchers("/js/**", "/img/**").permitAll()
                         .requestMatchers("/images/**").permitAll()
                         .requestMatchers("/webjars/**").permitAll()
                         .requestMatchers("/", "/register", "/login").permitAll()
@@ -95,13 +252,15 @@ public class SecurityConfig implements WebMvcConfigurer {
     /**
      * Crea un codificador de contraseñas seguro.
      *
-     * Utiliza BCryptPasswordEncoder para el hash de contraseñas.
+     * Utiliza BCryptPasswordEncoder para el hash de contraseñas, medido
+     * con {@link TimedPasswordEncoder}.
      *
+     * @param meterRegistry Registro de métricas
      * @return PasswordEncoder para codificar contraseñas
      */
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.wolfiez.wallpaper.config;
+
+import com.wolfiez.wallpaper.datasource.ReadWriteDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuración del modo de ejecución con hilos virtuales.
+ *
+ * Se activa con {@code spring.threads.virtual.enabled=true} en un JDK 21 o superior;
+ * en versiones anteriores la propiedad se ignora y la aplicación sigue con hilos de
+ * plataforma. Con el modo activo Spring Boot atiende cada petición de Tomcat en un
+ * hilo virtual y {@link AsyncConfig} ejecuta el trabajo de imágenes también en hilos
+ * virtuales.
+ *
+ * Como Tomcat deja de limitar la concurrencia, el pool Hikari del primario se envuelve
+ * en un {@link ConnectionLimitingDataSource} que concede como mucho tantas conexiones
+ * como tiene el pool y rechaza con 503 cuando hay demasiadas peticiones esperando.
+ * Con réplicas configuradas el DataSource lo construye
+ * {@link com.wolfiez.wallpaper.datasource.ReplicaRoutingConfig}, que limita el primario
+ * y cada réplica por separado, cada uno con el tamaño de su pool.
+ *
+ * Revisión de puntos de fijación (pinning) del hilo portador:
+ * el driver de PostgreSQL (42.6+) y HikariCP usan locks de java.util.concurrent en el
+ * camino de E/S, la caché de imágenes y el índice de búsqueda en memoria usan
+ * ReentrantLock / ReentrantReadWriteLock, y la recarga del feed público
+ * ({@link com.wolfiez.wallpaper.service.PublicFeedService#rebuild}), que consulta la
+ * base de datos con el lock tomado, usa ReentrantLock. No quedan bloques
+ * {@code synchronized} propios en la aplicación. BCrypt y la decodificación de imágenes consumen CPU, por lo que
+ * no ganan nada con hilos virtuales; las imágenes siguen acotadas por
+ * {@code wallpaper.images.executor.threads}. La prueba de carga se ejecuta con
+ * {@code -Djdk.tracePinnedThreads=short} para detectar fijaciones nuevas.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * Limita el pool Hikari que Spring Boot crea para el primario. Solo se envuelven
+     * pools Hikari, nunca DataSources compuestos como el de enrutado a réplicas.
+     *
+     * @param environment Entorno de la aplicación
+     * @return Post-procesador que envuelve el pool
+     */
+    @Bean
+    public static BeanPostProcessor connectionLimitingPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource pool)) {
+                    return bean;
+                }
+                return ConnectionLimitingDataSource.forPool(pool,
+                        environment.getProperty("wallpaper.jdbc.max-concurrent", Integer.class, pool.getMaximumPoolSize()),
+                        environment);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionLimitingDataSource limiter) {
+                limiter.registerMetrics(registry, "primary");
+            } else if (dataSource instanceof ReadWriteDataSource readWrite) {
+                readWrite.getLimiters().forEach((pool, limiter) -> limiter.registerMetrics(registry, pool));
+            }
+        };
+    }
+}
@@ -2,9 +2,15 @@ package com.wolfiez.wallpaper.controller;
 
 import com.wolfiez.wallpaper.DTO.AuthResponse;
 import com.wolfiez.wallpaper.DTO.LoginDTO;
+import com.wolfiez.wallpaper.DTO.RefreshTokenRequest;
+import com.wolfiez.wallpaper.DTO.TokenResponse;
 import com.wolfiez.wallpaper.DTO.UserRegistrationDTO;
 import com.wolfiez.wallpaper.entity.User;
+import com.wolfiez.wallpaper.exception.AuthenticationException;
+import com.wolfiez.wallpaper.exception.UserNotFoundException;
+import com.wolfiez.wallpaper.security.JwtService;
 import com.wolfiez.wallpaper.service.UserService;
+import io.jsonwebtoken.JwtException;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
  *
  * Este controlador proporciona endpoints para el registro de usuarios e inicio de sesión,
  * utilizando el servicio de usuarios para la autenticación y gestión de usuarios.
+ * El inicio de sesión emite un token de acceso y un token de refresco para la API sin estado.
  *
  * @author luis
  * @version 1.0
@@ -29,6 +36,9 @@ public class AuthController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private JwtService jwtService;
+
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> registerUser(@Valid @RequestBody UserRegistrationDTO registrationDTO) {
         User registeredUser = userService.registerUser(registrationDTO);
@@ -41,13 +51,50 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginDTO loginDTO) {
+    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginDTO loginDTO) {
         User user = userService.authenticateUser(loginDTO);
-        return ResponseEntity.ok(new AuthResponse(
+        return ResponseEntity.ok(issueTokens(user, "Login successful"));
+    }
+
+    /**
+     * Intercambia un token de refresco válido por un nuevo par de tokens.
+     *
+     * Se rechazan los tokens emitidos antes del último cambio de contraseña.
+     *
+     * @param request Cuerpo con el token de refresco
+     * @return ResponseEntity con los nuevos tokens
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        JwtService.RefreshToken refreshToken;
+        User user;
+        try {
+            refreshToken = jwtService.parseRefreshToken(request.getRefreshToken());
+            user = userService.getUserById(refreshToken.getUserId());
+        } catch (JwtException | IllegalArgumentException | UserNotFoundException e) {
+            throw new AuthenticationException("Invalid refresh token");
+        }
+
+        if (!refreshToken.isCurrentFor(user)) {
+            throw new AuthenticationException("Invalid refresh token");
+        }
+
+        if (!user.isActive()) {
+            throw new AuthenticationException("Account is disabled");
+        }
+        return ResponseEntity.ok(issueTokens(user, "Token refreshed"));
+    }
+
+    private TokenResponse issueTokens(User user, String message) {
+        return new TokenResponse(
                 user.getEmail(),
                 user.getName(),
                 true,
-                "Login successful"
-        ));
+                message,
+                jwtService.createAccessToken(user),
+                jwtService.createRefreshToken(user),
+                "Bearer",
+                jwtService.getAccessTokenTtlSeconds()
+        );
     }
 }
@@ -1,16 +1,26 @@
 package com.wolfiez.wallpaper.controller;
 
 
+import com.wolfiez.wallpaper.DTO.BoardBatchRequest;
 import com.wolfiez.wallpaper.DTO.BoardDto;
 import com.wolfiez.wallpaper.DTO.BoardResponseDto;
+import com.wolfiez.wallpaper.DTO.BoardSearchPage;
+import com.wolfiez.wallpaper.DTO.BoardSummary;
+import com.wolfiez.wallpaper.DTO.PublicBoardFeed;
 import com.wolfiez.wallpaper.entity.Board;
 import com.wolfiez.wallpaper.exception.BoardNotFoundException;
 import com.wolfiez.wallpaper.service.BoardService;
+import com.wolfiez.wallpaper.metrics.ImageMetrics;
+import com.wolfiez.wallpaper.service.ImageService;
+import com.wolfiez.wallpaper.service.PublicFeedService;
+import com.wolfiez.wallpaper.storage.ImageRendition;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -33,9 +43,16 @@ import java.util.List;
 @RequestMapping("/api/boards")
 public class BoardController {
     private final BoardService boardService;
+    private final ImageService imageService;
+    private final ImageMetrics imageMetrics;
+    private final PublicFeedService publicFeedService;
 
-    public BoardController(BoardService boardService) {
+    public BoardController(BoardService boardService, ImageService imageService, ImageMetrics imageMetrics,
+                           PublicFeedService publicFeedService) {
         this.boardService = boardService;
+        this.imageService = imageService;
+        this.imageMetrics = imageMetrics;
+        this.publicFeedService = publicFeedService;
     }
 
 
@@ -45,15 +62,15 @@ public class BoardController {
      *
      * @param boardId El identificador único del tablero
      * @param imageFile El archivo multipart que contiene la imagen del tablero
-     * @return ResponseEntity con el Tablero actualizado o un estado de error
+     * @return ResponseEntity con el tablero actualizado o un estado de error
      */
     @PostMapping(value = "/{boardId}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<Board> uploadBoardImage(
+    public ResponseEntity<BoardResponseDto> uploadBoardImage(
             @PathVariable Long boardId,
             @RequestParam("image") MultipartFile imageFile) {
         try {
             Board updatedBoard = boardService.updateBoardImage(boardId, imageFile);
-            return ResponseEntity.ok(updatedBoard);
+            return ResponseEntity.ok(BoardResponseDto.fromBoard(updatedBoard));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         } catch (IOException e) {
@@ -65,20 +82,35 @@ public class BoardController {
     /**
      * Recupera la imagen de un tablero específico.
      *
+     * La imagen se transmite directamente desde el almacén sin cargarla en memoria.
+     * Las cabeceras Range se resuelven automáticamente, devolviendo 206 con el fragmento solicitado.
+     *
+     * Con {@code v} igual a la versión actual la respuesta se cachea como inmutable;
+     * las peticiones condicionales se responden con 304 sin leer la imagen.
+     *
      * @param boardId El identificador único del tablero
-     * @return ResponseEntity que contiene los bytes de la imagen del tablero
+     * @param size Tamaño solicitado: {@code thumb}, {@code medium} o {@code full}
+     * @param version Versión de la imagen incluida en la URL, opcional
+     * @param request Petición actual, para las cabeceras condicionales
+     * @return ResponseEntity con el recurso de la imagen del tablero
      */
     @GetMapping("/{boardId}/image")
-    public ResponseEntity<byte[]> getBoardImage(@PathVariable Long boardId) {
+    public ResponseEntity<Resource> getBoardImage(
+            @PathVariable Long boardId,
+            @RequestParam(value = "size", defaultValue = "full") String size,
+            @RequestParam(value = "v", required = false) String version,
+            WebRequest request) {
+        ImageRendition rendition;
         try {
-            byte[] imageBytes = boardService.getBoardImage(boardId);
-            if (imageBytes == null) {
-                return ResponseEntity.notFound().build();
-            }
-            return ResponseEntity.ok()
-                    .contentType(MediaType.IMAGE_JPEG)
-                    .body(imageBytes);
-        } catch (RuntimeException e) {
+            rendition = ImageRendition.fromParam(size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return ImageResponses.serve(boardService.getBoardImage(boardId, rendition), version, request,
+                    imageService, imageMetrics, ImageMetrics.BOARD_IMAGE);
+        } catch (BoardNotFoundException e) {
             return ResponseEntity.notFound().build();
         }
     }
@@ -88,12 +120,35 @@ public class BoardController {
         try {
             boardService.removeBoardImage(boardId);
             return ResponseEntity.ok().build();
-        } catch (RuntimeException e) {
+        } catch (BoardNotFoundException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
 
+    /**
+     * Crea varios tableros para un usuario en una sola petición.
+     *
+     * Los inserts se envían a la base de datos en lotes, por lo que crear cientos
+     * de tableros cuesta unas pocas idas y vueltas en lugar de una por tablero.
+     *
+     * @param request Identificador del usuario y detalles de los tableros, como máximo {@link BoardService#MAX_BATCH_SIZE}
+     * @return ResponseEntity con los tableros creados, en el mismo orden, o 400 si el lote no es válido
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<BoardResponseDto>> createBoards(@RequestBody BoardBatchRequest request) {
+        if (request.getUserId() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            List<Board> created = boardService.createBoards(request.getBoards(), request.getUserId());
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(created.stream().map(BoardResponseDto::fromBoard).toList());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Crea un nuevo tablero para un usuario.
      *
@@ -118,9 +173,9 @@ public class BoardController {
 
 
     @GetMapping("/{id}")
-    public ResponseEntity<Board> getBoard(@PathVariable Long id) {
+    public ResponseEntity<BoardResponseDto> getBoard(@PathVariable Long id) {
         Board board = boardService.getBoard(id);
-        return new ResponseEntity<>(board, HttpStatus.OK);
+        return new ResponseEntity<>(BoardResponseDto.fromBoard(board), HttpStatus.OK);
     }
 
     @PutMapping("/{id}")
@@ -161,22 +216,77 @@ public class BoardController {
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Board>> getUserBoards(@PathVariable Long userId) {
-        List<Board> userBoards = boardService.getUserBoards(userId);
+    public ResponseEntity<List<BoardSummary>> getUserBoards(@PathVariable Long userId) {
+        List<BoardSummary> userBoards = boardService.getUserBoards(userId);
         return new ResponseEntity<>(userBoards, HttpStatus.OK);
     }
 
+    /**
+     * Recupera una página del feed de tableros públicos, del más reciente al más antiguo.
+     *
+     * @param after Cursor devuelto por la página anterior; se omite para la primera página
+     * @param limit Número máximo de tableros a devolver
+     * @return ResponseEntity con los tableros y el cursor de la siguiente página
+     */
+    @GetMapping("/public")
+    public ResponseEntity<PublicBoardFeed> getPublicFeed(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "limit", defaultValue = "" + BoardService.DEFAULT_FEED_LIMIT) int limit) {
+        try {
+            return ResponseEntity.ok(publicFeedService.getPublicFeed(after, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/public-boards")
     public String showPublicBoards(Model model) {
-        List<Board> publicBoards = boardService.getPublicBoards();
-        model.addAttribute("boards", publicBoards);
+        PublicBoardFeed feed = publicFeedService.getPublicFeed(null, BoardService.DEFAULT_FEED_LIMIT);
+        model.addAttribute("boards", feed.getBoards());
+        model.addAttribute("nextCursor", feed.getNextCursor());
         return "public-boards";
     }
 
+    /**
+     * Busca entre los tableros de un usuario, incluidos los privados, por nombre y descripción.
+     *
+     * @param userId El identificador único del usuario
+     * @param keyword Texto a buscar
+     * @param page Número de página, empezando en 0
+     * @param size Tamaño de página
+     * @return ResponseEntity con la página de resultados, de mejor a peor coincidencia
+     */
     @GetMapping("/search")
-    public ResponseEntity<List<Board>> searchUserBoards(@RequestHeader("userId") Long userId, @RequestParam("keyword") String keyword) {
-        List<Board> searchResults = boardService.searchUserBoards(userId, keyword);
-        return new ResponseEntity<>(searchResults, HttpStatus.OK);
+    public ResponseEntity<BoardSearchPage> searchUserBoards(
+            @RequestHeader("userId") Long userId,
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(boardService.searchUserBoards(userId, keyword, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Busca entre los tableros públicos por nombre y descripción.
+     *
+     * @param keyword Texto a buscar
+     * @param page Número de página, empezando en 0
+     * @param size Tamaño de página
+     * @return ResponseEntity con la página de resultados, de mejor a peor coincidencia
+     */
+    @GetMapping("/public/search")
+    public ResponseEntity<BoardSearchPage> searchPublicBoards(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(boardService.searchPublicBoards(keyword, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
 }
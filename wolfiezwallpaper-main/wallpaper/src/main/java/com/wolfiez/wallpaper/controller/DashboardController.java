@@ -1,16 +1,16 @@
 package com.wolfiez.wallpaper.controller;
 
 import com.wolfiez.wallpaper.DTO.BoardDto;
-import com.wolfiez.wallpaper.entity.Board;
 import com.wolfiez.wallpaper.security.CustomUserDetails;
 import com.wolfiez.wallpaper.service.BoardService;
+import com.wolfiez.wallpaper.view.BoardGridRenderer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
-import java.util.List;
-
 
 /**
  * Controlador responsable de renderizar el panel de control del usuario.
@@ -26,17 +26,33 @@ import java.util.List;
 public class DashboardController {
 
     private final BoardService boardService;
+    private final BoardGridRenderer boardGridRenderer;
 
-    public DashboardController(BoardService boardService) {
+    public DashboardController(BoardService boardService, BoardGridRenderer boardGridRenderer) {
         this.boardService = boardService;
+        this.boardGridRenderer = boardGridRenderer;
     }
 
+    /**
+     * Muestra el panel de control con los tableros del usuario autenticado.
+     *
+     * El grid de tableros se guarda en caché por usuario y solo se vuelve a
+     * consultar y renderizar cuando cambia alguno de sus tableros.
+     *
+     * @param userDetails Usuario autenticado
+     * @param model Modelo de Spring MVC para agregar atributos a la vista
+     * @param request Petición actual, usada para renderizar el grid
+     * @param response Respuesta actual, usada para renderizar el grid
+     * @return Nombre de la vista del panel de control
+     */
     @GetMapping("/dashboard")
-    public String showDashboard(@AuthenticationPrincipal CustomUserDetails userDetails, Model model) {
+    public String showDashboard(@AuthenticationPrincipal CustomUserDetails userDetails, Model model,
+                                HttpServletRequest request, HttpServletResponse response) {
         Long userId = userDetails.getId();
-        List<Board> userBoards = boardService.getUserBoards(userId);
+        String boardGrid = boardGridRenderer.dashboardGrid(userId, () -> boardService.getUserBoards(userId),
+                request, response);
 
-        model.addAttribute("boards", userBoards);
+        model.addAttribute("boardGrid", boardGrid);
         model.addAttribute("boardDto", new BoardDto());
 
         return "dashboard";
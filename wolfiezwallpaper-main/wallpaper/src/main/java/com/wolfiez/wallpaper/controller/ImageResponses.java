@@ -0,0 +1,112 @@
+package com.wolfiez.wallpaper.controller;
+
+import com.wolfiez.wallpaper.DTO.ImageReference;
+import com.wolfiez.wallpaper.metrics.ImageMetrics;
+import com.wolfiez.wallpaper.service.ImageService;
+import com.wolfiez.wallpaper.storage.ImageFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construcción de respuestas HTTP para imágenes almacenadas.
+ *
+ * Resuelve las peticiones condicionales (If-None-Match / If-Modified-Since)
+ * antes de abrir la imagen, de modo que un 304 no toca el almacén.
+ * Las URLs versionadas ({@code ?v=}) que apuntan a la versión actual se sirven
+ * como inmutables durante un año; el resto obliga a revalidar con el ETag.
+ * El tipo de contenido se obtiene de la cabecera de la imagen servida, ya que
+ * las miniaturas sin transparencia se guardan como JPEG aunque el original sea PNG.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+final class ImageResponses {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageResponses.class);
+
+    private static final CacheControl VERSIONED = CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable();
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ImageResponses() {
+    }
+
+    /**
+     * Genera la respuesta para una imagen.
+     *
+     * @param image Referencia a la imagen, o null si no existe; también se responde 404 si ya no está en el almacén
+     * @param requestedVersion Valor del parámetro {@code v} de la URL, si lo hay
+     * @param request Petición actual, usada para la comprobación condicional
+     * @param imageService Servicio para abrir la imagen cuando hay que enviarla
+     * @param imageMetrics Métricas donde se contabilizan los bytes enviados
+     * @param endpoint Nombre del endpoint para la etiqueta de la métrica
+     * @return 404, 304 o 200 con el recurso de la imagen, que Spring MVC convierte en 206 o 416 si la petición trae Range
+     */
+    static ResponseEntity<Resource> serve(ImageReference image, String requestedVersion, WebRequest request,
+                                          ImageService imageService, ImageMetrics imageMetrics, String endpoint) {
+        if (image == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        CacheControl cacheControl = image.isExact() && image.getVersion().equals(requestedVersion)
+                ? VERSIONED
+                : REVALIDATE;
+
+        if (request.checkNotModified(image.getETag(), image.getLastModifiedMillis())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+
+        Resource resource = imageService.loadImage(image.getKey());
+        if (resource == null) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            imageMetrics.recordBytesServed(endpoint, bytesToSend(resource, request));
+        } catch (IOException e) {
+            log.debug("Could not determine the length of image {} for the served-bytes metric", image.getKey(), e);
+        }
+        ImageFormat format = imageService.detectFormat(resource);
+        return ResponseEntity.ok()
+                .contentType(format != null ? format.getMediaType() : MediaType.APPLICATION_OCTET_STREAM)
+                .cacheControl(cacheControl)
+                .body(resource);
+    }
+
+    /**
+     * Calcula los bytes de imagen que se enviarán.
+     *
+     * Spring MVC responde a una cabecera Range con un 206 que solo contiene los
+     * fragmentos pedidos, o con un 416 sin cuerpo si no se pueden satisfacer; aquí
+     * se aplica la misma regla para contar únicamente esos bytes.
+     *
+     * @param resource Imagen que se va a enviar
+     * @param request Petición actual
+     * @return Longitud de la imagen completa o de los fragmentos pedidos
+     * @throws IOException Si no se puede leer la longitud de la imagen
+     */
+    private static long bytesToSend(Resource resource, WebRequest request) throws IOException {
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range == null) {
+            return resource.contentLength();
+        }
+        try {
+            List<ResourceRegion> regions = HttpRange.toResourceRegions(HttpRange.parseRanges(range), resource);
+            return regions.stream().mapToLong(ResourceRegion::getCount).sum();
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+    }
+}
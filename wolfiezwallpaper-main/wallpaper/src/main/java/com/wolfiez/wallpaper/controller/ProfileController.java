@@ -4,6 +4,7 @@ import com.wolfiez.wallpaper.DTO.UserDto;
 import com.wolfiez.wallpaper.entity.User;
 import com.wolfiez.wallpaper.exception.UserNotFoundException;
 import com.wolfiez.wallpaper.repository.UserRepository;
+import com.wolfiez.wallpaper.service.BoardService;
 import com.wolfiez.wallpaper.service.UserService;
 import com.wolfiez.wallpaper.service.ImageService;
 
@@ -38,11 +39,13 @@ public class ProfileController {
 
     private final UserService userService;
     private final ImageService imageService;
+    private final BoardService boardService;
 
     @Autowired
-    public ProfileController(UserService userService, ImageService imageService) {
+    public ProfileController(UserService userService, ImageService imageService, BoardService boardService) {
         this.userService = userService;
         this.imageService = imageService;
+        this.boardService = boardService;
     }
 
 
@@ -59,6 +62,7 @@ public class ProfileController {
         try {
             User user = userService.getUserByEmail(userDetails.getUsername());
             model.addAttribute("user", user);
+            model.addAttribute("boardCount", boardService.countUserBoards(user.getId()));
             return "profile";
         } catch (UserNotFoundException e) {
             return "redirect:/login";
@@ -1,6 +1,11 @@
 package com.wolfiez.wallpaper.controller;
 
+import com.wolfiez.wallpaper.DTO.PublicBoardFeed;
 import com.wolfiez.wallpaper.service.BoardService;
+import com.wolfiez.wallpaper.service.PublicFeedService;
+import com.wolfiez.wallpaper.view.BoardGridRenderer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,24 +23,33 @@ import org.springframework.web.bind.annotation.GetMapping;
 @Controller
 public class PublicBoardsController {
 
-    private final BoardService boardService;
+    private final PublicFeedService publicFeedService;
+    private final BoardGridRenderer boardGridRenderer;
 
-    public PublicBoardsController(BoardService boardService) {
-        this.boardService = boardService;
+    public PublicBoardsController(PublicFeedService publicFeedService, BoardGridRenderer boardGridRenderer) {
+        this.publicFeedService = publicFeedService;
+        this.boardGridRenderer = boardGridRenderer;
     }
 
     /**
      * Muestra los tableros públicos en la vista.
      *
-     * Recupera todos los tableros públicos utilizando el servicio de tableros
-     * y los agrega al modelo para ser renderizados en la vista.
+     * Renderiza solo la primera página del feed; las siguientes se cargan
+     * con scroll infinito desde {@code /api/boards/public} usando el cursor.
+     * El feed se sirve desde memoria, sin consultar la base de datos, y el grid
+     * renderizado se reutiliza mientras no cambie la versión del feed.
      *
      * @param model Modelo de Spring MVC para agregar atributos a la vista
+     * @param request Petición actual, usada para renderizar el grid
+     * @param response Respuesta actual, usada para renderizar el grid
      * @return Nombre de la vista de tableros públicos
      */
     @GetMapping("/boards/public")
-    public String showPublicBoards(Model model) {
-        model.addAttribute("boards", boardService.getPublicBoards());
+    public String showPublicBoards(Model model, HttpServletRequest request, HttpServletResponse response) {
+        long feedVersion = publicFeedService.getVersion();
+        PublicBoardFeed feed = publicFeedService.getPublicFeed(null, BoardService.DEFAULT_FEED_LIMIT);
+        model.addAttribute("boardGrid", boardGridRenderer.publicGrid(feedVersion, feed.getBoards(), request, response));
+        model.addAttribute("nextCursor", feed.getNextCursor());
         return "public-boards";
     }
 }
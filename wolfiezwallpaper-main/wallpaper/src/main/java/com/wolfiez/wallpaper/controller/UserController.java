@@ -1,12 +1,19 @@
 package com.wolfiez.wallpaper.controller;
 
 import com.wolfiez.wallpaper.DTO.UserDto;
+import com.wolfiez.wallpaper.DTO.UserResponseDto;
+import com.wolfiez.wallpaper.DTO.UserSearchPage;
+import com.wolfiez.wallpaper.DTO.UserSummary;
 import com.wolfiez.wallpaper.entity.User;
+import com.wolfiez.wallpaper.exception.UserNotFoundException;
+import com.wolfiez.wallpaper.metrics.ImageMetrics;
+import com.wolfiez.wallpaper.service.ImageService;
 import com.wolfiez.wallpaper.service.UserService;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -30,9 +37,13 @@ import java.util.List;
 @RequestMapping("/api/users")
 public class UserController {
     private final UserService userService;
+    private final ImageService imageService;
+    private final ImageMetrics imageMetrics;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, ImageService imageService, ImageMetrics imageMetrics) {
         this.userService = userService;
+        this.imageService = imageService;
+        this.imageMetrics = imageMetrics;
     }
 
 
@@ -45,12 +56,12 @@ public class UserController {
      * @return ResponseEntity con el Usuario actualizado o un estado de error
      */
     @PostMapping("/{userId}/profile-image")
-    public ResponseEntity<User> uploadProfileImage(
+    public ResponseEntity<UserResponseDto> uploadProfileImage(
             @PathVariable Long userId,
             @RequestParam("image") MultipartFile imageFile) {
         try {
             User updatedUser = userService.updateProfileImage(userId, imageFile);
-            return ResponseEntity.ok(updatedUser);
+            return ResponseEntity.ok(UserResponseDto.fromUser(updatedUser));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         } catch (IOException e) {
@@ -61,20 +72,23 @@ public class UserController {
     /**
      * Recupera la imagen de perfil de un usuario específico.
      *
+     * Se sirve como flujo desde el almacén de imágenes y admite peticiones Range.
+     * Responde 304 si el navegador ya tiene la versión actual.
+     *
      * @param userId El identificador único del usuario
-     * @return ResponseEntity que contiene los bytes de la imagen de perfil
+     * @param version Versión de la imagen incluida en la URL, opcional
+     * @param request Petición actual, para las cabeceras condicionales
+     * @return ResponseEntity con el recurso de la imagen de perfil
      */
     @GetMapping("/{userId}/profile-image")
-    public ResponseEntity<byte[]> getProfileImage(@PathVariable Long userId) {
+    public ResponseEntity<Resource> getProfileImage(
+            @PathVariable Long userId,
+            @RequestParam(value = "v", required = false) String version,
+            WebRequest request) {
         try {
-            byte[] imageBytes = userService.getProfileImage(userId);
-            if (imageBytes == null) {
-                return ResponseEntity.notFound().build();
-            }
-            return ResponseEntity.ok()
-                    .contentType(MediaType.IMAGE_JPEG)
-                    .body(imageBytes);
-        } catch (RuntimeException e) {
+            return ImageResponses.serve(userService.getProfileImage(userId), version, request,
+                    imageService, imageMetrics, ImageMetrics.PROFILE_IMAGE);
+        } catch (UserNotFoundException e) {
             return ResponseEntity.notFound().build();
         }
     }
@@ -90,14 +104,14 @@ public class UserController {
         try {
             userService.removeProfileImage(userId);
             return ResponseEntity.ok().build();
-        } catch (RuntimeException e) {
+        } catch (UserNotFoundException e) {
             return ResponseEntity.notFound().build();
         }
     }
     @GetMapping("/{id}")
-    public ResponseEntity<User> getUserById(@PathVariable Long id) {
-        User user = userService.getUserById(id);
-        return new ResponseEntity<>(user, HttpStatus.OK);
+    public ResponseEntity<UserResponseDto> getUserById(@PathVariable Long id) {
+        User user = userService.getUserWithRoles(id);
+        return new ResponseEntity<>(UserResponseDto.fromUser(user), HttpStatus.OK);
     }
 
     /**
@@ -112,14 +126,14 @@ public class UserController {
      * @return ResponseEntity con el Usuario actualizado
      */
     @PutMapping("/{id}")
-    public ResponseEntity<User> updateUser(
+    public ResponseEntity<UserResponseDto> updateUser(
             @PathVariable Long id,
             @ModelAttribute UserDto userDto,
             @RequestParam(value = "profileImage", required = false) MultipartFile profileImage,
             @RequestParam(value = "newPassword", required = false) String newPassword
     ) {
         User updatedUser = userService.updateUser(id, userDto, profileImage, newPassword);
-        return new ResponseEntity<>(updatedUser, HttpStatus.OK);
+        return new ResponseEntity<>(UserResponseDto.fromUser(updatedUser), HttpStatus.OK);
     }
 
 
@@ -138,15 +152,38 @@ public class UserController {
 
 
     /**
-     * Busca usuarios basándose en una palabra clave.
+     * Busca usuarios cuyo nombre o email contiene una palabra clave.
      *
      * @param keyword Término de búsqueda para encontrar usuarios
-     * @return ResponseEntity con la lista de Usuarios que coinciden
+     * @param page Número de página, empezando en 0
+     * @param size Tamaño de página
+     * @return ResponseEntity con la página de usuarios que coinciden, ordenados por nombre
      */
     @GetMapping("/search")
-    public ResponseEntity<List<User>> searchUsers(@RequestParam("keyword") String keyword) {
-        List<User> searchResults = userService.searchUsers(keyword);
-        return new ResponseEntity<>(searchResults, HttpStatus.OK);
+    public ResponseEntity<UserSearchPage> searchUsers(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "" + UserService.DEFAULT_SEARCH_PAGE_SIZE) int size) {
+        try {
+            return ResponseEntity.ok(userService.searchUsers(keyword, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Sugiere usuarios cuyo nombre o email empieza por el texto escrito, para autocompletado.
+     * Nunca devuelve más de {@link UserService#TYPEAHEAD_LIMIT} usuarios.
+     *
+     * @param prefix Texto escrito hasta el momento
+     * @param limit Número de sugerencias solicitado
+     * @return ResponseEntity con las sugerencias
+     */
+    @GetMapping("/typeahead")
+    public ResponseEntity<List<UserSummary>> suggestUsers(
+            @RequestParam("q") String prefix,
+            @RequestParam(value = "limit", defaultValue = "" + UserService.TYPEAHEAD_LIMIT) int limit) {
+        return ResponseEntity.ok(userService.suggestUsers(prefix, limit));
     }
 
     /**
@@ -156,8 +193,10 @@ public class UserController {
      * @return ResponseEntity con la lista de Usuarios que tienen el rol especificado
      */
     @GetMapping("/role/{roleName}")
-    public ResponseEntity<List<User>> getUsersByRole(@PathVariable String roleName) {
-        List<User> usersByRole = userService.getUsersByRole(roleName);
+    public ResponseEntity<List<UserResponseDto>> getUsersByRole(@PathVariable String roleName) {
+        List<UserResponseDto> usersByRole = userService.getUsersByRole(roleName).stream()
+                .map(UserResponseDto::fromUser)
+                .toList();
         return new ResponseEntity<>(usersByRole, HttpStatus.OK);
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.wolfiez.wallpaper.datasource;
+
+import com.wolfiez.wallpaper.config.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.io.Closeable;
+import java.util.Map;
+
+/**
+ * Application DataSource when replicas are configured: a lazy connection proxy over
+ * the {@link ReadWriteRoutingDataSource} that also owns the primary pool, so it is
+ * closed with the context.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+public class ReadWriteDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final HikariDataSource primary;
+    private final Map<String, ConnectionLimitingDataSource> limiters;
+
+    public ReadWriteDataSource(ReadWriteRoutingDataSource routing, HikariDataSource primary,
+                               Map<String, ConnectionLimitingDataSource> limiters) {
+        super(routing);
+        this.primary = primary;
+        this.limiters = Map.copyOf(limiters);
+    }
+
+    /**
+     * @return Connection limiters by pool name; empty unless virtual threads are enabled
+     */
+    public Map<String, ConnectionLimitingDataSource> getLimiters() {
+        return limiters;
+    }
+
+    @Override
+    public void close() {
+        primary.close();
+    }
+}
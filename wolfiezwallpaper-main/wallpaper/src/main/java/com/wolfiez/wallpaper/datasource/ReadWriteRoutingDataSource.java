@@ -0,0 +1,109 @@
+package com.wolfiez.wallpaper.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes each transaction's connection to the primary or to a read replica.
+ *
+ * Read-only transactions started in one of the routed packages go to a replica that
+ * is within the lag limit, unless the current user wrote recently (see
+ * {@link ReadYourWritesGuard}) or no replica is usable, in which case they fall back
+ * to the primary. Everything else, including work outside a transaction, uses the
+ * primary. Commits of read-write transactions are recorded for the current user.
+ *
+ * Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction manager opens the connection before the read-only flag is bound to
+ * the thread, and the proxy delays that until the first statement.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaSet replicaSet;
+    private final ReadYourWritesGuard guard;
+    private final List<String> routedPackages;
+    private final Counter replicaReads;
+    private final Counter fallbackReads;
+
+    /**
+     * @param primary Primary data source
+     * @param replicas Replica data sources by the routing keys {@link ReplicaSet#choose()} returns
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, ? extends DataSource> replicas,
+                                      ReplicaSet replicaSet, ReadYourWritesGuard guard,
+                                      List<String> routedPackages, MeterRegistry meterRegistry) {
+        this.replicaSet = replicaSet;
+        this.guard = guard;
+        this.routedPackages = List.copyOf(routedPackages);
+        this.replicaReads = Counter.builder("wallpaper.datasource.reads").tag("target", "replica")
+                .description("Read-only transactions by the database they were routed to")
+                .register(meterRegistry);
+        this.fallbackReads = Counter.builder("wallpaper.datasource.reads").tag("target", "primary")
+                .description("Read-only transactions by the database they were routed to")
+                .register(meterRegistry);
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+
+        String user = ReadYourWritesGuard.currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        guard.recordWrite(user);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+
+        if (!isRouted(TransactionSynchronizationManager.getCurrentTransactionName())) {
+            return PRIMARY;
+        }
+
+        String replica = user != null && guard.requiresPrimary(user) ? null : replicaSet.choose();
+        if (replica == null) {
+            fallbackReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return replica;
+    }
+
+    private boolean isRouted(String transactionName) {
+        if (transactionName == null) {
+            return false;
+        }
+        for (String prefix : routedPackages) {
+            if (transactionName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,67 @@
+package com.wolfiez.wallpaper.datasource;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users wrote recently so their reads are served by the primary.
+ *
+ * A replica may not have replayed a write yet, so for a short window after a user's
+ * read-write transaction commits, that user's read-only transactions skip the replicas
+ * and see their own changes. Other users keep reading from the replicas. The state is
+ * kept in memory, so it only covers requests served by the same instance.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+public class ReadYourWritesGuard {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesGuard(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * @return Name of the authenticated user of the current request, or null if anonymous
+     */
+    public static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * Records that a write by the user has committed.
+     *
+     * @param user User name
+     */
+    public void recordWrite(String user) {
+        long now = System.nanoTime();
+        lastWrites.put(user, now);
+        if (lastWrites.size() > CLEANUP_THRESHOLD) {
+            lastWrites.values().removeIf(time -> now - time > windowNanos);
+        }
+    }
+
+    /**
+     * @param user User name
+     * @return true if the user wrote within the window and must read from the primary
+     */
+    public boolean requiresPrimary(String user) {
+        Long lastWrite = lastWrites.get(user);
+        return lastWrite != null && System.nanoTime() - lastWrite <= windowNanos;
+    }
+}
@@ -0,0 +1,55 @@
+package com.wolfiez.wallpaper.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for routing read-only transactions to read replicas.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Data
+@ConfigurationProperties(prefix = "wallpaper.datasource")
+public class ReplicaProperties {
+
+    /**
+     * PostgreSQL lag in seconds: zero when all received WAL has been replayed, otherwise
+     * the age of the last replayed transaction. An idle primary therefore reads as no lag.
+     */
+    public static final String POSTGRES_LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                    + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /** Replicas lagging more than this are skipped until they catch up. */
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    /** How long a user's reads stay on the primary after one of their writes commits. */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    /** Query returning the replica lag in seconds. */
+    private String lagQuery = POSTGRES_LAG_QUERY;
+
+    /**
+     * Only read-only transactions started in these packages are routed. Repository
+     * methods called directly, such as the security user lookups, stay on the primary.
+     */
+    private List<String> routedPackages = new ArrayList<>(List.of("com.wolfiez.wallpaper.service."));
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
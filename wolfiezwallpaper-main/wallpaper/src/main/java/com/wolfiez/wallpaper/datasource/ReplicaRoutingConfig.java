@@ -0,0 +1,88 @@
+package com.wolfiez.wallpaper.datasource;
+
+import com.wolfiez.wallpaper.config.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured DataSource with primary/replica routing once at least
+ * one replica is configured ({@code wallpaper.datasource.replicas[0].url}).
+ *
+ * The primary pool is still built from {@code spring.datasource.*} and
+ * {@code spring.datasource.hikari.*}; without replicas Spring Boot's own DataSource is used.
+ * With virtual threads enabled the primary and every replica get their own
+ * {@link ConnectionLimitingDataSource}, each sized to its pool ({@code wallpaper.jdbc.max-concurrent}
+ * for the primary), so replica reads never consume the primary's permits.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Configuration
+@ConditionalOnProperty(name = "wallpaper.datasource.replicas[0].url")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public ReplicaSet replicaSet(ReplicaProperties properties) {
+        return new ReplicaSet(properties);
+    }
+
+    @Bean
+    public ReadYourWritesGuard readYourWritesGuard(ReplicaProperties properties) {
+        return new ReadYourWritesGuard(properties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, Environment environment,
+                                 ReplicaSet replicaSet, ReadYourWritesGuard guard, ReplicaProperties properties,
+                                 MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+
+        boolean limitConnections = Threading.VIRTUAL.isActive(environment);
+        Map<String, ConnectionLimitingDataSource> limiters = new LinkedHashMap<>();
+        DataSource primaryTarget = primary;
+        if (limitConnections) {
+            ConnectionLimitingDataSource limiter = ConnectionLimitingDataSource.forPool(primary,
+                    environment.getProperty("wallpaper.jdbc.max-concurrent", Integer.class, primary.getMaximumPoolSize()),
+                    environment);
+            limiters.put(ReadWriteRoutingDataSource.PRIMARY, limiter);
+            primaryTarget = limiter;
+        }
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicaSet.dataSources().forEach((name, pool) -> {
+            if (limitConnections) {
+                ConnectionLimitingDataSource limiter =
+                        ConnectionLimitingDataSource.forPool(pool, pool.getMaximumPoolSize(), environment);
+                limiters.put(name, limiter);
+                replicas.put(name, limiter);
+            } else {
+                replicas.put(name, pool);
+            }
+        });
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryTarget, replicas, replicaSet, guard,
+                properties.getRoutedPackages(), meterRegistry);
+        return new ReadWriteDataSource(routing, primary, limiters);
+    }
+}
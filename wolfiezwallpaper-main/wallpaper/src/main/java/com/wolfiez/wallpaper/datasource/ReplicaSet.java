@@ -0,0 +1,150 @@
+package com.wolfiez.wallpaper.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection pools for the read replicas and their measured replication lag.
+ *
+ * A background thread runs the lag query against every replica at a fixed interval.
+ * Replicas whose probe fails or whose lag exceeds the configured maximum are left out
+ * of {@link #choose()} until a later probe finds them caught up; the rest are used
+ * round-robin. Lag and health are exported as gauges per replica.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+public class ReplicaSet implements MeterBinder, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaSet.class);
+    private static final int PROBE_TIMEOUT_SECONDS = 2;
+
+    private final List<ReplicaState> replicas = new ArrayList<>();
+    private final long maxLagMillis;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicaSet(ReplicaProperties properties) {
+        this.maxLagMillis = properties.getMaxLag().toMillis();
+        this.lagQuery = properties.getLagQuery();
+
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            ReplicaProperties.Replica config = properties.getReplicas().get(i);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(config.getUrl());
+            pool.setUsername(config.getUsername());
+            pool.setPassword(config.getPassword());
+            pool.setMaximumPoolSize(config.getMaximumPoolSize());
+            pool.setReadOnly(true);
+            replicas.add(new ReplicaState("replica-" + i, pool));
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getLagCheckInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkLag, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return Replica pools by routing key
+     */
+    public Map<String, HikariDataSource> dataSources() {
+        Map<String, HikariDataSource> targets = new LinkedHashMap<>();
+        replicas.forEach(replica -> targets.put(replica.name, replica.dataSource));
+        return targets;
+    }
+
+    /**
+     * Picks the next replica that is within the lag limit.
+     *
+     * @return Routing key of the replica, or null if none is usable
+     */
+    public String choose() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaState replica = replicas.get((start + i) % size);
+            if (replica.usable) {
+                return replica.name;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Measures the lag of every replica and updates which ones are usable.
+     */
+    public void checkLag() {
+        for (ReplicaState replica : replicas) {
+            try {
+                Double seconds = replica.jdbcTemplate.queryForObject(lagQuery, Double.class);
+                replica.lagMillis = seconds != null ? Math.round(seconds * 1000) : 0;
+                replica.usable = replica.lagMillis <= maxLagMillis;
+            } catch (RuntimeException e) {
+                if (replica.usable) {
+                    log.warn("Replica {} is unavailable, reading from the primary: {}", replica.name, e.getMessage());
+                }
+                replica.lagMillis = -1;
+                replica.usable = false;
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ReplicaState replica : replicas) {
+            Gauge.builder("wallpaper.datasource.replica.lag", replica, state -> state.lagMillis / 1000.0)
+                    .description("Replication lag of the replica in seconds, -1 if it cannot be reached")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name)
+                    .register(registry);
+            Gauge.builder("wallpaper.datasource.replica.usable", replica, state -> state.usable ? 1 : 0)
+                    .description("Whether read-only transactions are currently routed to the replica")
+                    .tag("replica", replica.name)
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private static final class ReplicaState {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private volatile long lagMillis = -1;
+        private volatile boolean usable;
+
+        private ReplicaState(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate((DataSource) dataSource);
+            this.jdbcTemplate.setQueryTimeout(PROBE_TIMEOUT_SECONDS);
+        }
+    }
+}
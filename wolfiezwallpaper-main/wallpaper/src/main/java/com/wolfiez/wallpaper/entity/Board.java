@@ -1,6 +1,8 @@
 package com.wolfiez.wallpaper.entity;
 
 import com.fasterxml.jackson.annotation.*;
+import com.wolfiez.wallpaper.storage.ImageFormat;
+import com.wolfiez.wallpaper.storage.ImageMetadata;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -11,14 +13,17 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "boards")
+@Table(name = "boards", indexes = {
+        @Index(name = "idx_boards_public_feed", columnList = "is_private, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Board {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "boards_seq")
+    @SequenceGenerator(name = "boards_seq", sequenceName = "boards_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -27,8 +32,38 @@ public class Board {
     private String description;
 
     @JsonIgnore
-    @Column(columnDefinition = "TEXT")
-    private String image;
+    @Column(name = "image_key", length = 64)
+    private String imageKey;
+
+    @JsonIgnore
+    @Column(name = "thumb_image_key", length = 64)
+    private String thumbImageKey;
+
+    @JsonIgnore
+    @Column(name = "medium_image_key", length = 64)
+    private String mediumImageKey;
+
+    @JsonIgnore
+    @Enumerated(EnumType.STRING)
+    @Column(name = "image_format", length = 8)
+    private ImageFormat imageFormat;
+
+    @JsonIgnore
+    @Column(name = "image_width")
+    private Integer imageWidth;
+
+    @JsonIgnore
+    @Column(name = "image_height")
+    private Integer imageHeight;
+
+    @JsonIgnore
+    @Enumerated(EnumType.STRING)
+    @Column(name = "image_color_type", length = 16)
+    private ImageMetadata.ColorType imageColorType;
+
+    @JsonIgnore
+    @Column(name = "image_updated_at")
+    private LocalDateTime imageUpdatedAt;
 
     @Column(name = "is_private")
     private boolean isPrivate = false;
@@ -46,6 +81,18 @@ public class Board {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    /**
+     * Copies the header metadata of the current image, or clears it when there is none.
+     *
+     * @param metadata Metadata of the new image, or null
+     */
+    public void setImageMetadata(ImageMetadata metadata) {
+        imageFormat = metadata != null ? metadata.getFormat() : null;
+        imageWidth = metadata != null ? metadata.getWidth() : null;
+        imageHeight = metadata != null ? metadata.getHeight() : null;
+        imageColorType = metadata != null ? metadata.getColorType() : null;
+    }
+
     @JsonProperty("userId")
     public Long getUserId() {
         return user != null ? user.getId() : null;
@@ -0,0 +1,41 @@
+package com.wolfiez.wallpaper.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reference count of a stored image.
+ *
+ * Images are stored once under their SHA-256 content key, so the same bytes may
+ * back several boards, renditions and profile pictures. Each of those references
+ * holds one count; the bytes are deleted once the count drops to zero.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Entity
+@Table(name = "image_blobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageBlob {
+    @Id
+    @Column(name = "content_key", length = 64)
+    private String key;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
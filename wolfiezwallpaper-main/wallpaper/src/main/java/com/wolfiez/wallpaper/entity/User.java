@@ -3,7 +3,9 @@ package com.wolfiez.wallpaper.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -18,7 +20,8 @@ import java.util.Set;
 @AllArgsConstructor
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -33,8 +36,15 @@ public class User {
     @Column(nullable = false)
     private boolean active = true;
 
-    @Column(name = "profile_image")
-    private String profileImage;
+    // bumped whenever the password changes, so refresh tokens issued before are rejected
+    @Column(name = "credentials_version", nullable = false)
+    private int credentialsVersion;
+
+    @Column(name = "profile_image_key", length = 64)
+    private String profileImageKey;
+
+    @Column(name = "profile_image_updated_at")
+    private LocalDateTime profileImageUpdatedAt;
 
     @Column(name = "created_at")
     private LocalDateTime createdAt;
@@ -44,7 +54,11 @@ public class User {
         createdAt = LocalDateTime.now();
     }
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    // lazy associations stay out of equals, hashCode and toString, which Hibernate
+    // calls while it is still loading them
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
@@ -53,6 +67,8 @@ public class User {
     private Set<Role> roles = new HashSet<>();
 
 
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     private List<Board> boards = new ArrayList<>();
 }
\ No newline at end of file
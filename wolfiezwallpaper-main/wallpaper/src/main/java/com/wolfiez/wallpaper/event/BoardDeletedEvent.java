@@ -0,0 +1,18 @@
+package com.wolfiez.wallpaper.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when a board is deleted, on its own or together with its owner.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Getter
+@AllArgsConstructor
+public class BoardDeletedEvent {
+    private final Long boardId;
+    private final Long userId;
+}
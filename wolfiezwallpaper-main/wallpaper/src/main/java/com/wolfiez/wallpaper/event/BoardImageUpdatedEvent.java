@@ -0,0 +1,18 @@
+package com.wolfiez.wallpaper.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when a new image has been stored for a board.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Getter
+@AllArgsConstructor
+public class BoardImageUpdatedEvent {
+    private final Long boardId;
+    private final String imageKey;
+}
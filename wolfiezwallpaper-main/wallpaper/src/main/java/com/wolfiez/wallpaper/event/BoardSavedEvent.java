@@ -0,0 +1,18 @@
+package com.wolfiez.wallpaper.event;
+
+import com.wolfiez.wallpaper.DTO.BoardSummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when a board is created or any field shown in listings changes.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Getter
+@AllArgsConstructor
+public class BoardSavedEvent {
+    private final BoardSummary summary;
+}
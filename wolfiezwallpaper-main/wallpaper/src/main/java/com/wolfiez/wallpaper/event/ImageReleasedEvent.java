@@ -0,0 +1,17 @@
+package com.wolfiez.wallpaper.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when the last reference to a stored image has been dropped.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Getter
+@AllArgsConstructor
+public class ImageReleasedEvent {
+    private final String imageKey;
+}
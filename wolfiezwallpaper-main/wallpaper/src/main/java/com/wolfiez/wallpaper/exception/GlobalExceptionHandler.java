@@ -1,9 +1,11 @@
 package com.wolfiez.wallpaper.exception;
 
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -183,6 +185,30 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.UNAUTHORIZED);
     }
 
+    /**
+     * Maneja la falta de conexiones a la base de datos.
+     *
+     * Cuando el limitador de conexiones rechaza una petición por haber demasiadas
+     * esperando, o la espera supera el tiempo máximo, se responde con 503
+     * (SERVICE UNAVAILABLE) y un Retry-After en lugar de acumular más espera.
+     *
+     * @param ex La excepción al obtener la conexión o iniciar la transacción
+     * @param request La solicitud web que originó la excepción
+     * @return ResponseEntity con detalles del error y código de estado 503
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<Object> handleDatabaseUnavailable(
+            RuntimeException ex, WebRequest request) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("message", "Service temporarily overloaded, please retry");
+        body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return new ResponseEntity<>(body, headers, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Sobrescribe el método de manejo de errores de validación de argumentos.
      *
@@ -4,4 +4,8 @@ public class ImageProcessingException extends RuntimeException {
     public ImageProcessingException(String message) {
         super(message);
     }
+
+    public ImageProcessingException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
\ No newline at end of file
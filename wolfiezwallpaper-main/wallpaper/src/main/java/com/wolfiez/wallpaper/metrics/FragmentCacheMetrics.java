@@ -0,0 +1,58 @@
+package com.wolfiez.wallpaper.metrics;
+
+import com.wolfiez.wallpaper.view.BoardGridRenderer;
+import com.wolfiez.wallpaper.view.FragmentCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publishes the {@link FragmentCache} statistics per board grid: hits, misses,
+ * time spent rendering on misses and render time saved by hits.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Component
+public class FragmentCacheMetrics implements MeterBinder {
+
+    private static final List<String> FRAGMENTS = List.of(BoardGridRenderer.PUBLIC_GRID, BoardGridRenderer.DASHBOARD_GRID);
+
+    private final FragmentCache fragmentCache;
+
+    public FragmentCacheMetrics(FragmentCache fragmentCache) {
+        this.fragmentCache = fragmentCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String fragment : FRAGMENTS) {
+            FunctionCounter.builder("wallpaper.fragment.cache.requests", fragmentCache, cache -> cache.getHits(fragment))
+                    .description("Rendered fragment cache lookups")
+                    .tags("fragment", fragment, "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("wallpaper.fragment.cache.requests", fragmentCache, cache -> cache.getMisses(fragment))
+                    .description("Rendered fragment cache lookups")
+                    .tags("fragment", fragment, "result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("wallpaper.fragment.cache.render.time", fragmentCache, cache -> cache.getRenderSeconds(fragment))
+                    .description("Time spent rendering fragments on cache misses")
+                    .tag("fragment", fragment)
+                    .baseUnit("seconds")
+                    .register(registry);
+            FunctionCounter.builder("wallpaper.fragment.cache.saved.time", fragmentCache, cache -> cache.getSavedSeconds(fragment))
+                    .description("Render time avoided by cache hits")
+                    .tag("fragment", fragment)
+                    .baseUnit("seconds")
+                    .register(registry);
+        }
+        Gauge.builder("wallpaper.fragment.cache.entries", fragmentCache, FragmentCache::getEntryCount)
+                .description("Rendered fragments held by the cache")
+                .register(registry);
+    }
+}
@@ -0,0 +1,48 @@
+package com.wolfiez.wallpaper.metrics;
+
+import com.wolfiez.wallpaper.storage.ImageCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the {@link ImageCache} statistics: hits, misses, evictions,
+ * size in bytes and entry count.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Component
+public class ImageCacheMetrics implements MeterBinder {
+
+    private final ImageCache imageCache;
+
+    public ImageCacheMetrics(ImageCache imageCache) {
+        this.imageCache = imageCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("wallpaper.image.cache.requests", imageCache, ImageCache::getHits)
+                .description("Image cache lookups")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("wallpaper.image.cache.requests", imageCache, ImageCache::getMisses)
+                .description("Image cache lookups")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("wallpaper.image.cache.evictions", imageCache, ImageCache::getEvictions)
+                .description("Images evicted to stay within the byte budget")
+                .register(registry);
+        Gauge.builder("wallpaper.image.cache.size", imageCache, ImageCache::getSizeBytes)
+                .description("Bytes held by the image cache")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("wallpaper.image.cache.entries", imageCache, ImageCache::getEntryCount)
+                .description("Images held by the image cache")
+                .register(registry);
+    }
+}
@@ -0,0 +1,85 @@
+package com.wolfiez.wallpaper.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for the image upload, legacy Base64 and serving paths.
+ *
+ * <ul>
+ *   <li>{@code wallpaper.image.upload.size} - size of accepted uploads, in bytes</li>
+ *   <li>{@code wallpaper.image.upload.duration} - validation and storage time per upload</li>
+ *   <li>{@code wallpaper.image.encode} / {@code wallpaper.image.decode} - Base64 conversion time</li>
+ *   <li>{@code wallpaper.image.served.bytes} - image bytes sent, tagged by endpoint</li>
+ * </ul>
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Component
+public class ImageMetrics {
+
+    public static final String BOARD_IMAGE = "board-image";
+    public static final String PROFILE_IMAGE = "profile-image";
+
+    private final MeterRegistry registry;
+    private final DistributionSummary uploadSize;
+    private final Timer uploadDuration;
+    private final Timer encodeDuration;
+    private final Timer decodeDuration;
+
+    public ImageMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.uploadSize = DistributionSummary.builder("wallpaper.image.upload.size")
+                .description("Size of accepted image uploads")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.uploadDuration = Timer.builder("wallpaper.image.upload.duration")
+                .description("Time to validate and store an uploaded image")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.encodeDuration = Timer.builder("wallpaper.image.encode")
+                .description("Time to Base64-encode an image")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.decodeDuration = Timer.builder("wallpaper.image.decode")
+                .description("Time to decode a Base64 image")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public void recordUpload(long sizeBytes, long durationNanos) {
+        uploadSize.record(sizeBytes);
+        uploadDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordEncode(long durationNanos) {
+        encodeDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordDecode(long durationNanos) {
+        decodeDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts bytes sent in an image response.
+     *
+     * @param endpoint {@link #BOARD_IMAGE} or {@link #PROFILE_IMAGE}
+     * @param bytes Length of the image sent
+     */
+    public void recordBytesServed(String endpoint, long bytes) {
+        Counter.builder("wallpaper.image.served.bytes")
+                .description("Image bytes sent to clients")
+                .baseUnit("bytes")
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .increment(bytes);
+    }
+}
@@ -1,24 +1,52 @@
 package com.wolfiez.wallpaper.repository;
 
+import com.wolfiez.wallpaper.DTO.BoardSummary;
+import com.wolfiez.wallpaper.DTO.ImageReference;
 import com.wolfiez.wallpaper.entity.Board;
 import com.wolfiez.wallpaper.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
-    List<Board> findByUser(User user);
+    String SUMMARY_SELECT = "SELECT new com.wolfiez.wallpaper.DTO.BoardSummary(" +
+            "b.id, b.name, b.description, b.isPrivate, b.createdAt, b.user.id, " +
+            "CASE WHEN b.imageKey IS NOT NULL THEN true ELSE false END, " +
+            "SUBSTRING(b.imageKey, 1, " + ImageReference.VERSION_LENGTH + ")) FROM Board b ";
 
-    @Query("SELECT b FROM Board b WHERE b.isPrivate = false")
-    List<Board> findPublicBoards();
+    @Query(SUMMARY_SELECT + "WHERE b.user.id = :userId")
+    List<BoardSummary> findSummariesByUserId(@Param("userId") Long userId);
 
-    @Query("SELECT b FROM Board b WHERE b.user = :user AND b.name LIKE %:keyword%")
-    List<Board> searchUserBoards(@Param("user") User user, @Param("keyword") String keyword);
+    @Query(SUMMARY_SELECT + "WHERE b.isPrivate = false ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardSummary> findPublicFeed(Pageable pageable);
 
+    @Query(SUMMARY_SELECT + "WHERE b.isPrivate = false " +
+            "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardSummary> findPublicFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    @Query(SUMMARY_SELECT)
+    List<BoardSummary> findAllSummaries();
+
+    @Query("SELECT COUNT(b) FROM Board b WHERE b.user.id = :userId")
+    long countByUserId(@Param("userId") Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Board b SET b.thumbImageKey = :thumbKey, b.mediumImageKey = :mediumKey " +
+            "WHERE b.id = :id AND b.imageKey = :imageKey AND b.thumbImageKey IS NULL AND b.mediumImageKey IS NULL")
+    int updateRenditions(@Param("id") Long id, @Param("imageKey") String imageKey,
+                         @Param("thumbKey") String thumbKey, @Param("mediumKey") String mediumKey);
 
     List<Board> findByUserAndIsPrivate(User user, boolean isPrivate);
-}
\ No newline at end of file
+}
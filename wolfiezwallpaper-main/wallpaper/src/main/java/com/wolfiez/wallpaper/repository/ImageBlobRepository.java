@@ -0,0 +1,28 @@
+package com.wolfiez.wallpaper.repository;
+
+import com.wolfiez.wallpaper.entity.ImageBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    /**
+     * Creates an empty row for the key unless one exists, waiting for any uncommitted insert of the same key.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO image_blobs (content_key, ref_count, created_at) " +
+            "VALUES (:key, 0, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("key") String key);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM ImageBlob i WHERE i.key = :key")
+    Optional<ImageBlob> findForUpdate(@Param("key") String key);
+}
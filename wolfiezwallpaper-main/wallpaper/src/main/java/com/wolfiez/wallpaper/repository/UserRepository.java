@@ -1,6 +1,11 @@
 package com.wolfiez.wallpaper.repository;
 
+import com.wolfiez.wallpaper.DTO.ImageReference;
+import com.wolfiez.wallpaper.DTO.UserSummary;
 import com.wolfiez.wallpaper.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,12 +16,28 @@ import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    String SUMMARY_SELECT = "SELECT new com.wolfiez.wallpaper.DTO.UserSummary(" +
+            "u.id, u.name, u.email, SUBSTRING(u.profileImageKey, 1, " + ImageReference.VERSION_LENGTH + ")) " +
+            "FROM User u ";
+
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
 
-    @Query("SELECT u FROM User u WHERE u.name LIKE %:keyword% OR u.email LIKE %:keyword%")
-    List<User> searchUsers(@Param("keyword") String keyword);
+    /**
+     * Loads a user together with its roles in a single query, for API responses.
+     */
+    @EntityGraph(attributePaths = "roles")
+    Optional<User> findWithRolesById(Long id);
+
+    /**
+     * Matches a lower-case LIKE pattern, escaped with {@code !}, against name or email.
+     * The expressions match the {@code lower(...)} indexes created by PostgresSearchSchema.
+     */
+    @Query(SUMMARY_SELECT + "WHERE LOWER(u.name) LIKE :pattern ESCAPE '!' " +
+            "OR LOWER(u.email) LIKE :pattern ESCAPE '!' ORDER BY u.name, u.id")
+    Slice<UserSummary> searchUserSummaries(@Param("pattern") String pattern, Pageable pageable);
 
+    @EntityGraph(attributePaths = "roles")
     @Query("SELECT u FROM User u JOIN u.roles r WHERE r.name = :roleName")
     List<User> findByRoleName(@Param("roleName") String roleName);
 }
@@ -0,0 +1,53 @@
+package com.wolfiez.wallpaper.search;
+
+import com.wolfiez.wallpaper.DTO.BoardSearchPage;
+
+/**
+ * Full-text search over board names and descriptions.
+ *
+ * The implementation is chosen with {@code wallpaper.search.type}:
+ * {@code postgres} (default) uses a tsvector column and trigram indexes,
+ * {@code memory} keeps an in-process inverted index for databases without
+ * those features, such as H2 in tests. Implementations that keep their own copy
+ * of the boards follow {@code BoardSavedEvent} and {@code BoardDeletedEvent} after
+ * commit, so rolled-back changes never reach the index.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+public interface BoardSearchIndex {
+
+    int MAX_PAGE_SIZE = 50;
+
+    /**
+     * Deepest result position that can be paged to. Ranked results have to be
+     * sorted before skipping, so deep pages are refused instead of getting slower.
+     */
+    int MAX_RESULT_WINDOW = 1000;
+
+    /**
+     * Searches boards, best match first.
+     *
+     * @param query Free-text query
+     * @param ownerId Restricts results to this user's boards (private included), or null for public boards only
+     * @param page Zero-based page number
+     * @param size Page size, at most {@link #MAX_PAGE_SIZE}
+     * @return Page of matching boards
+     */
+    BoardSearchPage search(String query, Long ownerId, int page, int size);
+
+    /**
+     * Validates paging arguments shared by all implementations.
+     *
+     * @throws IllegalArgumentException If the page is out of range
+     */
+    static void checkPage(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Invalid page or size");
+        }
+        if ((long) (page + 1) * size > MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("Page is beyond the searchable window");
+        }
+    }
+}
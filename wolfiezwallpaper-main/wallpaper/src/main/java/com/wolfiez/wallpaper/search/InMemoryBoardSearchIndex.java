@@ -0,0 +1,198 @@
+package com.wolfiez.wallpaper.search;
+
+import com.wolfiez.wallpaper.DTO.BoardSearchPage;
+import com.wolfiez.wallpaper.DTO.BoardSummary;
+import com.wolfiez.wallpaper.event.BoardDeletedEvent;
+import com.wolfiez.wallpaper.event.BoardSavedEvent;
+import com.wolfiez.wallpaper.repository.BoardRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Board search over an in-process inverted index, for databases without
+ * full-text search such as H2.
+ *
+ * Names and descriptions are split into lower-case word tokens. A board matches
+ * when every query token is a prefix of one of its tokens; exact word and name
+ * matches rank higher. The index is rebuilt from the database at startup and kept
+ * current from board events once their transaction commits, so it only suits a
+ * single instance.
+ *
+ * Enabled with {@code wallpaper.search.type=memory}.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Component
+@ConditionalOnProperty(prefix = "wallpaper.search", name = "type", havingValue = "memory")
+public class InMemoryBoardSearchIndex implements BoardSearchIndex {
+
+    private final BoardRepository boardRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Set<Long>> postings = new TreeMap<>();
+    private final Map<Long, IndexedBoard> boards = new HashMap<>();
+
+    public InMemoryBoardSearchIndex(BoardRepository boardRepository) {
+        this.boardRepository = boardRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<BoardSummary> summaries = boardRepository.findAllSummaries();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            boards.clear();
+            summaries.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public BoardSearchPage search(String query, Long ownerId, int page, int size) {
+        BoardSearchIndex.checkPage(page, size);
+        Set<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return new BoardSearchPage(List.of(), page, size, false);
+        }
+
+        List<ScoredBoard> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = null;
+            for (String term : terms) {
+                Set<Long> termMatches = new HashSet<>();
+                postings.subMap(term, true, term + Character.MAX_VALUE, false)
+                        .values().forEach(termMatches::addAll);
+                if (candidates == null) {
+                    candidates = termMatches;
+                } else {
+                    candidates.retainAll(termMatches);
+                }
+                if (candidates.isEmpty()) {
+                    break;
+                }
+            }
+
+            for (Long id : candidates) {
+                IndexedBoard board = boards.get(id);
+                boolean visible = ownerId != null
+                        ? ownerId.equals(board.summary.getUserId())
+                        : !board.summary.isPrivate();
+                if (visible) {
+                    matches.add(new ScoredBoard(board.summary, score(board, terms)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.comparingInt(ScoredBoard::score).reversed()
+                .thenComparing(match -> match.summary().getId(), Comparator.reverseOrder()));
+
+        int from = Math.min(page * size, matches.size());
+        int to = Math.min(from + size, matches.size());
+        List<BoardSummary> pageBoards = matches.subList(from, to).stream().map(ScoredBoard::summary).toList();
+        return new BoardSearchPage(pageBoards, page, size, matches.size() > to);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardSaved(BoardSavedEvent event) {
+        BoardSummary summary = event.getSummary();
+        lock.writeLock().lock();
+        try {
+            removeLocked(summary.getId());
+            add(summary);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardDeleted(BoardDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(event.getBoardId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(BoardSummary summary) {
+        Set<String> nameTokens = tokenize(summary.getName());
+        Set<String> tokens = new HashSet<>(nameTokens);
+        tokens.addAll(tokenize(summary.getDescription()));
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, key -> new HashSet<>()).add(summary.getId());
+        }
+        boards.put(summary.getId(), new IndexedBoard(summary, nameTokens, tokens));
+    }
+
+    private void removeLocked(Long boardId) {
+        IndexedBoard previous = boards.remove(boardId);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.tokens) {
+            Set<Long> ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(boardId);
+                if (ids.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * Two points per exact word match, one per prefix match, doubled for name words.
+     */
+    private static int score(IndexedBoard board, Set<String> terms) {
+        int score = 0;
+        for (String term : terms) {
+            int termScore = board.tokens.contains(term) ? 2 : 1;
+            boolean inName = board.nameTokens.contains(term)
+                    || board.nameTokens.stream().anyMatch(token -> token.startsWith(term));
+            score += inName ? termScore * 2 : termScore;
+        }
+        return score;
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private record IndexedBoard(BoardSummary summary, Set<String> nameTokens, Set<String> tokens) {
+    }
+
+    private record ScoredBoard(BoardSummary summary, int score) {
+    }
+}
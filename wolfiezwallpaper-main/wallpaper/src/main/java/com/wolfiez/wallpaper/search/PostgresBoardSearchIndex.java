@@ -0,0 +1,99 @@
+package com.wolfiez.wallpaper.search;
+
+import com.wolfiez.wallpaper.DTO.BoardSearchPage;
+import com.wolfiez.wallpaper.DTO.BoardSummary;
+import com.wolfiez.wallpaper.DTO.ImageReference;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Board search backed by PostgreSQL full-text search and {@code pg_trgm}.
+ *
+ * A stored generated {@code search_vector} column (name weighted above description)
+ * answers word queries through a GIN index, and a trigram GIN index over the same
+ * text answers substring queries, so neither needs a table scan. Since the column
+ * is maintained by the database, board changes need no extra work here.
+ * The column and indexes are created by {@link PostgresSearchSchema}.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Component
+@ConditionalOnProperty(prefix = "wallpaper.search", name = "type", havingValue = "postgres", matchIfMissing = true)
+public class PostgresBoardSearchIndex implements BoardSearchIndex {
+
+    private static final String DOCUMENT = "(coalesce(b.name, '') || ' ' || coalesce(b.description, ''))";
+
+    /** Trigram indexes cannot serve substring patterns shorter than one trigram. */
+    private static final int MIN_SUBSTRING_LENGTH = 3;
+
+    private static final RowMapper<BoardSummary> SUMMARY_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        String imageKey = rs.getString("image_key");
+        return new BoardSummary(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getBoolean("is_private"),
+                createdAt != null ? createdAt.toLocalDateTime() : null,
+                rs.getLong("user_id"),
+                imageKey != null,
+                ImageReference.versionOf(imageKey));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresBoardSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public BoardSearchPage search(String query, Long ownerId, int page, int size) {
+        BoardSearchIndex.checkPage(page, size);
+        String text = query == null ? "" : query.trim();
+        if (text.isEmpty()) {
+            return new BoardSearchPage(List.of(), page, size, false);
+        }
+
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(
+                "SELECT b.id, b.name, b.description, b.is_private, b.created_at, b.user_id, b.image_key " +
+                "FROM boards b, websearch_to_tsquery('simple', ?) q WHERE ");
+        args.add(text);
+
+        if (ownerId != null) {
+            sql.append("b.user_id = ? ");
+            args.add(ownerId);
+        } else {
+            sql.append("b.is_private = false ");
+        }
+
+        if (text.length() >= MIN_SUBSTRING_LENGTH) {
+            sql.append("AND (b.search_vector @@ q OR ").append(DOCUMENT).append(" ILIKE ? ESCAPE '\\') ");
+            args.add("%" + escapeLike(text) + "%");
+        } else {
+            sql.append("AND b.search_vector @@ q ");
+        }
+
+        sql.append("ORDER BY ts_rank(b.search_vector, q) + similarity(").append(DOCUMENT).append(", ?) DESC, ")
+                .append("b.id DESC LIMIT ? OFFSET ?");
+        args.add(text);
+        args.add(size + 1);
+        args.add(page * size);
+
+        List<BoardSummary> boards = jdbcTemplate.query(sql.toString(), SUMMARY_MAPPER, args.toArray());
+        boolean hasNext = boards.size() > size;
+        return new BoardSearchPage(hasNext ? boards.subList(0, size) : boards, page, size, hasNext);
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
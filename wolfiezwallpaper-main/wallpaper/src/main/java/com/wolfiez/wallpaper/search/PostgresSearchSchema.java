@@ -0,0 +1,56 @@
+package com.wolfiez.wallpaper.search;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the PostgreSQL columns and indexes used by search.
+ *
+ * The schema is generated by Hibernate, which cannot express generated columns
+ * or expression indexes, so they are added right after it runs. Every statement
+ * is idempotent.
+ *
+ * <ul>
+ *   <li>Boards: a weighted tsvector column with a GIN index, and a trigram GIN
+ *       index over name and description for substring matches.</li>
+ *   <li>Users: trigram GIN indexes on {@code lower(name)} and {@code lower(email)}
+ *       for substring search, and {@code text_pattern_ops} B-tree indexes on the
+ *       same expressions for prefix (typeahead) search.</li>
+ * </ul>
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(prefix = "wallpaper.search", name = "type", havingValue = "postgres", matchIfMissing = true)
+public class PostgresSearchSchema {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresSearchSchema(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void createSearchSchema() {
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+
+        jdbcTemplate.execute("ALTER TABLE boards ADD COLUMN IF NOT EXISTS search_vector tsvector " +
+                "GENERATED ALWAYS AS (" +
+                "setweight(to_tsvector('simple', coalesce(name, '')), 'A') || " +
+                "setweight(to_tsvector('simple', coalesce(description, '')), 'B')) STORED");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_boards_search_vector ON boards USING GIN (search_vector)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_boards_search_trgm ON boards USING GIN (" +
+                "(coalesce(name, '') || ' ' || coalesce(description, '')) gin_trgm_ops)");
+
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_name_trgm ON users USING GIN (lower(name) gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING GIN (lower(email) gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_name_prefix ON users (lower(name) text_pattern_ops)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_email_prefix ON users (lower(email) text_pattern_ops)");
+    }
+}
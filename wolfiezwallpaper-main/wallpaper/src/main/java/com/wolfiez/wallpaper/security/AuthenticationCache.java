@@ -0,0 +1,201 @@
+package com.wolfiez.wallpaper.security;
+
+import com.wolfiez.wallpaper.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived caches that take BCrypt and the user lookup off the repeat-login path.
+ *
+ * Verified credentials are keyed by an HMAC of (email, password) under a random
+ * per-process key, so neither the password nor an offline-attackable hash is kept
+ * in memory. Only successful logins are cached; failed attempts always pay the
+ * full BCrypt cost. User details for form login are cached by email.
+ *
+ * Entries expire after {@code wallpaper.auth.cache.ttl} and are dropped once a
+ * change to the user commits. A login that read the user before that commit may
+ * finish after it, so callers take a {@link #generation()} before reading and
+ * entries are only kept if no user was invalidated in between.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Component
+public class AuthenticationCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final byte[] hmacKey = new byte[32];
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final Map<String, Entry> credentials = new ConcurrentHashMap<>();
+    private final Map<String, Entry> userDetails = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public AuthenticationCache(@Value("${wallpaper.auth.cache.ttl:PT5M}") Duration ttl,
+                               @Value("${wallpaper.auth.cache.max-entries:10000}") int maxEntries) {
+        new SecureRandom().nextBytes(hmacKey);
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the user for credentials that were verified recently.
+     *
+     * @param email Submitted email
+     * @param password Submitted raw password
+     * @return Snapshot of the verified user, or null if these credentials are not cached
+     */
+    public User getVerifiedUser(String email, String password) {
+        Entry entry = lookup(credentials, credentialKey(email, password));
+        return entry != null ? snapshot(entry.user) : null;
+    }
+
+    /**
+     * Returns the current invalidation count, to be taken before the user is read
+     * from the database and passed back when the result is cached.
+     *
+     * @return Number of invalidations so far
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Remembers credentials that have just been verified against the stored hash.
+     *
+     * @param email Submitted email
+     * @param password Submitted raw password
+     * @param user Authenticated user
+     * @param readGeneration {@link #generation()} taken before the user was read
+     */
+    public void putVerifiedUser(String email, String password, User user, long readGeneration) {
+        store(credentials, credentialKey(email, password), user, readGeneration);
+    }
+
+    /**
+     * Returns the cached user for a form login lookup.
+     *
+     * @param email User email
+     * @return Snapshot of the user, or null if not cached
+     */
+    public User getUserByEmail(String email) {
+        Entry entry = lookup(userDetails, email);
+        return entry != null ? snapshot(entry.user) : null;
+    }
+
+    public void putUserByEmail(String email, User user, long readGeneration) {
+        store(userDetails, email, user, readGeneration);
+    }
+
+    /**
+     * Drops every cached entry belonging to a user once the current transaction
+     * commits, or right away if there is none. Dropping entries before the commit
+     * would let a concurrent login re-cache the old row.
+     *
+     * @param userId Id of the user that changed
+     */
+    public void invalidateUser(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictUser(userId);
+                }
+            });
+        } else {
+            evictUser(userId);
+        }
+    }
+
+    private void evictUser(Long userId) {
+        generation.incrementAndGet();
+        credentials.values().removeIf(entry -> entry.user.getId().equals(userId));
+        userDetails.values().removeIf(entry -> entry.user.getId().equals(userId));
+    }
+
+    private Entry lookup(Map<String, Entry> map, String key) {
+        Entry entry = map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.createdAt > ttlNanos) {
+            map.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private void store(Map<String, Entry> map, String key, User user, long readGeneration) {
+        if (generation.get() != readGeneration) {
+            return;
+        }
+        if (map.size() >= maxEntries) {
+            long now = System.nanoTime();
+            map.values().removeIf(entry -> now - entry.createdAt > ttlNanos);
+            if (map.size() >= maxEntries) {
+                return;
+            }
+        }
+        Entry entry = new Entry(snapshot(user), System.nanoTime());
+        map.put(key, entry);
+        // an invalidation between the check and the put may have missed this entry
+        if (generation.get() != readGeneration) {
+            map.remove(key, entry);
+        }
+    }
+
+    private String credentialKey(String email, String password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(hmacKey, HMAC_ALGORITHM));
+            mac.update(email.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return HexFormat.of().formatHex(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC not available", e);
+        }
+    }
+
+    /**
+     * Copies the fields needed for authentication into a detached User,
+     * so cached data never shares state with a persistence context.
+     */
+    private static User snapshot(User user) {
+        User copy = new User();
+        copy.setId(user.getId());
+        copy.setName(user.getName());
+        copy.setEmail(user.getEmail());
+        copy.setPassword(user.getPassword());
+        copy.setActive(user.isActive());
+        copy.setCredentialsVersion(user.getCredentialsVersion());
+        copy.setProfileImageKey(user.getProfileImageKey());
+        copy.setCreatedAt(user.getCreatedAt());
+        return copy;
+    }
+
+    private static final class Entry {
+        private final User user;
+        private final long createdAt;
+
+        private Entry(User user, long createdAt) {
+            this.user = user;
+            this.createdAt = createdAt;
+        }
+    }
+}
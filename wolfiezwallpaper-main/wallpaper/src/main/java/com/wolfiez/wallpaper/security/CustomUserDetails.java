@@ -2,6 +2,7 @@ package com.wolfiez.wallpaper.security;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -12,7 +13,12 @@ import java.util.Collection;
  * Provides extended user authentication and authorization information.
  *
  * This class stores additional user details beyond standard Spring Security user properties,
- * such as user ID, name, and profile image URL.
+ * such as user ID, name, and profile image version.
+ *
+ * Instances live in the HTTP session for the whole login, so they are kept to a compact
+ * identity: the profile image is only referenced by a short version token and resolved
+ * lazily through the image endpoint, and the password hash is erased once authentication
+ * has completed.
  *
  * @author luis
  * @version 1.0
@@ -20,13 +26,32 @@ import java.util.Collection;
  */
 @Getter
 @AllArgsConstructor
-public class CustomUserDetails implements UserDetails {
+public class CustomUserDetails implements UserDetails, CredentialsContainer {
     private final String email;
-    private final String password;
+    private String password;
     private final Collection<? extends GrantedAuthority> authorities;
     private final Long id;
     private final String name;
-    private final String profileImage;
+    private final String profileImageVersion;
+
+    /**
+     * Returns the URL of the user's profile image, versioned so browsers can cache it.
+     *
+     * @return Profile image URL, or null if the user has no profile image
+     */
+    public String getProfileImageUrl() {
+        return profileImageVersion != null
+                ? "/api/users/" + id + "/profile-image?v=" + profileImageVersion
+                : null;
+    }
+
+    /**
+     * Drops the password hash once authentication is complete so it is not kept in the session.
+     */
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
 
     /**
      * Returns the email address used as the username for authentication.
@@ -0,0 +1,188 @@
+package com.wolfiez.wallpaper.security;
+
+import com.wolfiez.wallpaper.DTO.ImageReference;
+import com.wolfiez.wallpaper.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
+
+/**
+ * Issues and verifies the signed tokens used by the stateless {@code /api/**} chain.
+ *
+ * Access tokens are short-lived and carry everything needed to rebuild a
+ * {@link CustomUserDetails} (id, email, name, profile image version), so API
+ * requests are authenticated without a session or database lookup.
+ * Refresh tokens only carry the user id and the user's credentials version, and are
+ * exchanged for a new pair; changing the password bumps the version, so refresh tokens
+ * issued before the change are rejected.
+ *
+ * The signing key comes from {@code wallpaper.jwt.secret} (base64) and must be at
+ * least 256 bits; startup fails when it is missing or shorter.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Service
+public class JwtService {
+
+    private static final String CLAIM_TYPE = "typ";
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_NAME = "name";
+    private static final String CLAIM_IMAGE = "img";
+    private static final String CLAIM_CREDENTIALS_VERSION = "cv";
+    private static final String TYPE_ACCESS = "access";
+    private static final String TYPE_REFRESH = "refresh";
+
+    private static final int MIN_SECRET_BITS = 256;
+
+    private final SecretKey key;
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
+
+    public JwtService(@Value("${wallpaper.jwt.secret}") String secret,
+                      @Value("${wallpaper.jwt.access-token-ttl:PT15M}") Duration accessTokenTtl,
+                      @Value("${wallpaper.jwt.refresh-token-ttl:P7D}") Duration refreshTokenTtl) {
+        this.key = signingKey(secret);
+        this.accessTokenTtl = accessTokenTtl;
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+    /**
+     * Creates a signed access token for the given user.
+     *
+     * @param user Authenticated user
+     * @return Compact JWT
+     */
+    public String createAccessToken(User user) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .setSubject(user.getEmail())
+                .claim(CLAIM_TYPE, TYPE_ACCESS)
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_NAME, user.getName())
+                .claim(CLAIM_IMAGE, ImageReference.versionOf(user.getProfileImageKey()))
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(accessTokenTtl)))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * Creates a signed refresh token for the given user.
+     *
+     * @param user Authenticated user
+     * @return Compact JWT
+     */
+    public String createRefreshToken(User user) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .setSubject(user.getEmail())
+                .claim(CLAIM_TYPE, TYPE_REFRESH)
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_CREDENTIALS_VERSION, user.getCredentialsVersion())
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(refreshTokenTtl)))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    public long getAccessTokenTtlSeconds() {
+        return accessTokenTtl.getSeconds();
+    }
+
+    /**
+     * Verifies an access token and rebuilds the principal it describes.
+     *
+     * @param token Compact JWT
+     * @return Principal for the token's user, without password
+     * @throws JwtException If the token is invalid, expired or not an access token
+     */
+    public CustomUserDetails parseAccessToken(String token) {
+        Claims claims = parse(token, TYPE_ACCESS);
+        return new CustomUserDetails(
+                claims.getSubject(),
+                null,
+                Collections.singletonList(new SimpleGrantedAuthority("USER")),
+                claims.get(CLAIM_USER_ID, Long.class),
+                claims.get(CLAIM_NAME, String.class),
+                claims.get(CLAIM_IMAGE, String.class)
+        );
+    }
+
+    /**
+     * Verifies a refresh token.
+     *
+     * @param token Compact JWT
+     * @return User id and credentials version the token was issued with
+     * @throws JwtException If the token is invalid, expired, not a refresh token or has no credentials version
+     */
+    public RefreshToken parseRefreshToken(String token) {
+        Claims claims = parse(token, TYPE_REFRESH);
+        Integer credentialsVersion = claims.get(CLAIM_CREDENTIALS_VERSION, Integer.class);
+        if (credentialsVersion == null) {
+            throw new JwtException("Refresh token has no credentials version");
+        }
+        return new RefreshToken(claims.get(CLAIM_USER_ID, Long.class), credentialsVersion);
+    }
+
+    /**
+     * Claims of a verified refresh token.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RefreshToken {
+        private final Long userId;
+        private final int credentialsVersion;
+
+        /**
+         * @param user Current state of the token's user
+         * @return true if the user's password has not changed since the token was issued
+         */
+        public boolean isCurrentFor(User user) {
+            return user.getId().equals(userId) && user.getCredentialsVersion() == credentialsVersion;
+        }
+    }
+
+    private static SecretKey signingKey(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("wallpaper.jwt.secret must be set");
+        }
+        byte[] bytes;
+        try {
+            bytes = Decoders.BASE64.decode(secret.trim());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("wallpaper.jwt.secret must be base64", e);
+        }
+        if (bytes.length * 8 < MIN_SECRET_BITS) {
+            throw new IllegalArgumentException("wallpaper.jwt.secret must be at least " + MIN_SECRET_BITS + " bits");
+        }
+        return Keys.hmacShaKeyFor(bytes);
+    }
+
+    private Claims parse(String token, String expectedType) {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        if (!expectedType.equals(claims.get(CLAIM_TYPE, String.class))) {
+            throw new JwtException("Unexpected token type");
+        }
+        return claims;
+    }
+}
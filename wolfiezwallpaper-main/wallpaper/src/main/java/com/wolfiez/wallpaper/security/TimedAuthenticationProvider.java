@@ -0,0 +1,48 @@
+package com.wolfiez.wallpaper.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * {@link AuthenticationProvider} decorator that times every attempt as
+ * {@code wallpaper.auth.login}, tagged {@code method=form} and with the outcome.
+ *
+ * Wraps the provider behind the form login, which does not go through
+ * {@code UserService.authenticateUser}; API logins are timed there under
+ * the same name with {@code method=api}.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+public class TimedAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final MeterRegistry registry;
+
+    public TimedAuthenticationProvider(AuthenticationProvider delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "failure";
+        try {
+            Authentication result = delegate.authenticate(authentication);
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(registry.timer("wallpaper.auth.login", "method", "form", "outcome", outcome));
+        }
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
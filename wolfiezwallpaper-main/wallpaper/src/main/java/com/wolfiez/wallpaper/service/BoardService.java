@@ -1,18 +1,34 @@
 package com.wolfiez.wallpaper.service;
 
+import com.wolfiez.wallpaper.DTO.BoardCursor;
 import com.wolfiez.wallpaper.DTO.BoardDto;
+import com.wolfiez.wallpaper.DTO.BoardSearchPage;
+import com.wolfiez.wallpaper.DTO.BoardSummary;
+import com.wolfiez.wallpaper.DTO.ImageReference;
+import com.wolfiez.wallpaper.DTO.PublicBoardFeed;
 import com.wolfiez.wallpaper.entity.Board;
 import com.wolfiez.wallpaper.entity.User;
+import com.wolfiez.wallpaper.event.BoardDeletedEvent;
+import com.wolfiez.wallpaper.event.BoardImageUpdatedEvent;
+import com.wolfiez.wallpaper.event.BoardSavedEvent;
 import com.wolfiez.wallpaper.exception.BoardNotFoundException;
 import com.wolfiez.wallpaper.exception.UserNotFoundException;
 import com.wolfiez.wallpaper.repository.BoardRepository;
 import com.wolfiez.wallpaper.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import com.wolfiez.wallpaper.search.BoardSearchIndex;
+import com.wolfiez.wallpaper.storage.ImageRendition;
+import com.wolfiez.wallpaper.storage.StoredImage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -26,20 +42,34 @@ import java.util.List;
 @Service
 @Transactional
 public class BoardService {
+    public static final int DEFAULT_FEED_LIMIT = 24;
+    public static final int MAX_FEED_LIMIT = 100;
+    public static final int MAX_BATCH_SIZE = 500;
+
     @Autowired
     private ImageService imageService;
 
+    @Autowired
+    private ImageBlobService imageBlobService;
+
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoardSearchIndex boardSearchIndex;
 
 
-    public BoardService(BoardRepository boardRepository, UserRepository userRepository) {
+    public BoardService(BoardRepository boardRepository, UserRepository userRepository,
+                        ApplicationEventPublisher eventPublisher, BoardSearchIndex boardSearchIndex) {
         this.boardRepository = boardRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.boardSearchIndex = boardSearchIndex;
     }
 
     /**
      * Updates the image for a specific board.
+     * Thumbnail and medium renditions are generated in the background once the
+     * update commits; until then those sizes fall back to the original.
      *
      * @param boardId Unique identifier of the board
      * @param imageFile Multipart image file to be stored
@@ -50,39 +80,74 @@ public class BoardService {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new RuntimeException("Board not found"));
 
-        String encodedImage = imageService.processImageForStorage(imageFile);
-        board.setImage(encodedImage);
+        StoredImage image = imageService.storeImage(imageFile);
+        String imageKey = image.getKey();
+        imageBlobService.changeReferences(boardImageKeys(board), List.of(imageKey));
+        board.setImageKey(imageKey);
+        board.setImageMetadata(image.getMetadata());
+        board.setThumbImageKey(null);
+        board.setMediumImageKey(null);
+        board.setImageUpdatedAt(LocalDateTime.now());
 
-        return boardRepository.save(board);
+        Board saved = boardRepository.save(board);
+        eventPublisher.publishEvent(new BoardSavedEvent(BoardSummary.fromBoard(saved)));
+        eventPublisher.publishEvent(new BoardImageUpdatedEvent(saved.getId(), imageKey));
+        return saved;
     }
 
     /**
-     * Retrieves the image for a specific board.
+     * Resolves which stored image to serve for a board in the requested size.
+     * Sizes that have not been generated yet fall back to the next larger one.
+     * Only the board row is read; the image itself is opened by the caller.
      *
      * @param boardId Unique identifier of the board
-     * @return Byte array representing the board's image, or null if no image exists
+     * @param rendition Requested image size
+     * @return Reference to the image to serve, or null if the board has no image
+     * @throws BoardNotFoundException If board is not found
      */
-    public byte[] getBoardImage(Long boardId) {
+    @Transactional(readOnly = true)
+    public ImageReference getBoardImage(Long boardId, ImageRendition rendition) {
         Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new RuntimeException("Board not found"));
+                .orElseThrow(() -> new BoardNotFoundException("Board not found with id: " + boardId));
 
-        if (board.getImage() == null) {
+        if (board.getImageKey() == null) {
             return null;
         }
 
-        return imageService.decodeImage(board.getImage());
+        String key = board.getImageKey();
+        boolean exact = rendition == ImageRendition.FULL;
+        if (rendition == ImageRendition.MEDIUM && board.getMediumImageKey() != null) {
+            key = board.getMediumImageKey();
+            exact = true;
+        } else if (rendition == ImageRendition.THUMB) {
+            if (board.getThumbImageKey() != null) {
+                key = board.getThumbImageKey();
+                exact = true;
+            } else if (board.getMediumImageKey() != null) {
+                key = board.getMediumImageKey();
+            }
+        }
+        return ImageReference.of(key, board.getImageKey(), exact, board.getImageUpdatedAt());
     }
 
     /**
      * Removes the image from a specific board.
+     * The stored bytes are only deleted once no other board or profile references them.
      *
      * @param boardId Unique identifier of the board
+     * @throws BoardNotFoundException If board is not found
      */
     public void removeBoardImage(Long boardId) {
         Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new RuntimeException("Board not found"));
-        board.setImage(null);
-        boardRepository.save(board);
+                .orElseThrow(() -> new BoardNotFoundException("Board not found with id: " + boardId));
+        imageBlobService.changeReferences(boardImageKeys(board), List.of());
+        board.setImageKey(null);
+        board.setImageMetadata(null);
+        board.setThumbImageKey(null);
+        board.setMediumImageKey(null);
+        board.setImageUpdatedAt(LocalDateTime.now());
+        Board saved = boardRepository.save(board);
+        eventPublisher.publishEvent(new BoardSavedEvent(BoardSummary.fromBoard(saved)));
     }
 
     /**
@@ -103,7 +168,47 @@ public class BoardService {
         board.setPrivate(boardDto.isPrivate());
         board.setUser(user);
 
-        return boardRepository.save(board);
+        Board saved = boardRepository.save(board);
+        eventPublisher.publishEvent(new BoardSavedEvent(BoardSummary.fromBoard(saved)));
+        return saved;
+    }
+
+    /**
+     * Creates several boards for a user in one transaction.
+     *
+     * Ids come from a pooled sequence, so Hibernate assigns them without a round
+     * trip per board and sends the inserts as JDBC batches when the transaction flushes.
+     *
+     * @param boardDtos Details of the boards to create, at most {@link #MAX_BATCH_SIZE}
+     * @param userId Unique identifier of the user creating the boards
+     * @return Newly created Board entities, in request order
+     * @throws IllegalArgumentException If user is not found or the batch is empty or too large
+     */
+    public List<Board> createBoards(List<BoardDto> boardDtos, Long userId) {
+        if (boardDtos == null || boardDtos.isEmpty() || boardDtos.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch must contain between 1 and " + MAX_BATCH_SIZE + " boards");
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+        List<Board> boards = new ArrayList<>(boardDtos.size());
+        for (BoardDto boardDto : boardDtos) {
+            if (boardDto.getName() == null || boardDto.getName().isBlank()) {
+                throw new IllegalArgumentException("Board name is required");
+            }
+            Board board = new Board();
+            board.setName(boardDto.getName());
+            board.setDescription(boardDto.getDescription());
+            board.setPrivate(boardDto.isPrivate());
+            board.setUser(user);
+            boards.add(board);
+        }
+
+        List<Board> saved = boardRepository.saveAll(boards);
+        for (Board board : saved) {
+            eventPublisher.publishEvent(new BoardSavedEvent(BoardSummary.fromBoard(board)));
+        }
+        return saved;
     }
 
     /**
@@ -113,25 +218,101 @@ public class BoardService {
      * @return Board entity
      * @throws BoardNotFoundException If board is not found
      */
+    @Transactional(readOnly = true)
     public Board getBoard(Long id) {
         return boardRepository.findById(id)
                 .orElseThrow(() -> new BoardNotFoundException("Board not found with id: " + id));
     }
 
-    public List<Board> getUserBoards(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + userId));
-        return boardRepository.findByUser(user);
+    /**
+     * Retrieves summaries of every board owned by a user.
+     *
+     * @param userId Unique identifier of the user
+     * @return Board summaries, without image data
+     * @throws UserNotFoundException If user is not found
+     */
+    @Transactional(readOnly = true)
+    public List<BoardSummary> getUserBoards(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("User not found with id: " + userId);
+        }
+        return boardRepository.findSummariesByUserId(userId);
     }
 
-    public List<Board> getPublicBoards() {
-        return boardRepository.findPublicBoards();
+    /**
+     * Counts the boards owned by a user without loading them.
+     *
+     * @param userId Unique identifier of the user
+     * @return Number of boards
+     */
+    @Transactional(readOnly = true)
+    public long countUserBoards(Long userId) {
+        return boardRepository.countByUserId(userId);
     }
 
-    public List<Board> searchUserBoards(Long userId, String keyword) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + userId));
-        return boardRepository.searchUserBoards(user, keyword);
+    /**
+     * Retrieves one page of the public board feed, newest first.
+     *
+     * Uses keyset pagination on {@code (createdAt, id)}, so every page costs the
+     * same regardless of how deep into the feed the client is. Requests are normally
+     * answered from memory by {@link PublicFeedService}, which falls back to this query.
+     *
+     * @param after Cursor token from the previous page, or null for the first page
+     * @param limit Maximum number of boards to return, clamped to {@link #MAX_FEED_LIMIT}
+     * @return Page of board summaries and the cursor for the next page
+     * @throws IllegalArgumentException If the cursor token is malformed
+     */
+    @Transactional(readOnly = true)
+    public PublicBoardFeed getPublicFeed(String after, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_FEED_LIMIT));
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+
+        List<BoardSummary> boards;
+        if (after == null || after.isBlank()) {
+            boards = boardRepository.findPublicFeed(page);
+        } else {
+            BoardCursor cursor = BoardCursor.decode(after);
+            boards = boardRepository.findPublicFeedAfter(cursor.getCreatedAt(), cursor.getId(), page);
+        }
+
+        if (boards.size() <= pageSize) {
+            return new PublicBoardFeed(boards, null);
+        }
+        List<BoardSummary> pageBoards = boards.subList(0, pageSize);
+        return new PublicBoardFeed(pageBoards, BoardCursor.of(pageBoards.get(pageSize - 1)).encode());
+    }
+
+    /**
+     * Searches a user's boards, private ones included, by name and description.
+     *
+     * @param userId Unique identifier of the user
+     * @param keyword Free-text query
+     * @param page Zero-based page number
+     * @param size Page size
+     * @return Page of matching boards, best match first
+     * @throws UserNotFoundException If user is not found
+     * @throws IllegalArgumentException If the page is out of range
+     */
+    @Transactional(readOnly = true)
+    public BoardSearchPage searchUserBoards(Long userId, String keyword, int page, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("User not found with id: " + userId);
+        }
+        return boardSearchIndex.search(keyword, userId, page, size);
+    }
+
+    /**
+     * Searches public boards by name and description.
+     *
+     * @param keyword Free-text query
+     * @param page Zero-based page number
+     * @param size Page size
+     * @return Page of matching boards, best match first
+     * @throws IllegalArgumentException If the page is out of range
+     */
+    @Transactional(readOnly = true)
+    public BoardSearchPage searchPublicBoards(String keyword, int page, int size) {
+        return boardSearchIndex.search(keyword, null, page, size);
     }
 
     public Board updateBoard(Long id, BoardDto boardDto) {
@@ -146,12 +327,41 @@ public class BoardService {
         existingBoard.setDescription(boardDto.getDescription());
         existingBoard.setPrivate(boardDto.isPrivate());
 
-        return boardRepository.save(existingBoard);
+        Board saved = boardRepository.save(existingBoard);
+        eventPublisher.publishEvent(new BoardSavedEvent(BoardSummary.fromBoard(saved)));
+        return saved;
     }
 
     public void deleteBoard(Long id) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new BoardNotFoundException("Board not found with id: " + id));
+        imageBlobService.changeReferences(boardImageKeys(board), List.of());
         boardRepository.delete(board);
+        eventPublisher.publishEvent(new BoardDeletedEvent(id, board.getUserId()));
+    }
+
+    /**
+     * Attaches generated renditions to a board, taking a reference on each, unless
+     * the board image changed while they were being generated.
+     *
+     * @param boardId Unique identifier of the board
+     * @param imageKey Key of the original the renditions were generated from
+     * @param thumbKey Key of the thumbnail rendition
+     * @param mediumKey Key of the medium rendition
+     * @return true if the board still had that original and the renditions were attached
+     */
+    public boolean attachRenditions(Long boardId, String imageKey, String thumbKey, String mediumKey) {
+        if (boardRepository.updateRenditions(boardId, imageKey, thumbKey, mediumKey) == 0) {
+            return false;
+        }
+        imageBlobService.acquire(thumbKey, mediumKey);
+        return true;
+    }
+
+    /**
+     * Image keys a board holds a reference on, null entries included.
+     */
+    static List<String> boardImageKeys(Board board) {
+        return Arrays.asList(board.getImageKey(), board.getThumbImageKey(), board.getMediumImageKey());
     }
 }
\ No newline at end of file
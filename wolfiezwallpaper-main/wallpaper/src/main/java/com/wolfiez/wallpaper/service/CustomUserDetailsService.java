@@ -1,7 +1,9 @@
 package com.wolfiez.wallpaper.service;
 
+import com.wolfiez.wallpaper.DTO.ImageReference;
 import com.wolfiez.wallpaper.entity.User;
 import com.wolfiez.wallpaper.repository.UserRepository;
+import com.wolfiez.wallpaper.security.AuthenticationCache;
 import com.wolfiez.wallpaper.security.CustomUserDetails;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -26,8 +28,13 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AuthenticationCache authenticationCache;
+
     /**
      * Loads a user by their email address for authentication.
+     * Recently loaded users are served from {@link AuthenticationCache}; a new
+     * principal is built on every call because Spring Security erases its password.
      *
      * @param email User's email address
      * @return UserDetails object containing user authentication information
@@ -35,8 +42,13 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        long cacheGeneration = authenticationCache.generation();
+        User user = authenticationCache.getUserByEmail(email);
+        if (user == null) {
+            user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+            authenticationCache.putUserByEmail(email, user, cacheGeneration);
+        }
 
         return new CustomUserDetails(
                 user.getEmail(),
@@ -44,7 +56,7 @@ public class CustomUserDetailsService implements UserDetailsService {
                 Collections.singletonList(new SimpleGrantedAuthority("USER")),
                 user.getId(),
                 user.getName(),
-                user.getProfileImage()
+                ImageReference.versionOf(user.getProfileImageKey())
         );
     }
 }
\ No newline at end of file
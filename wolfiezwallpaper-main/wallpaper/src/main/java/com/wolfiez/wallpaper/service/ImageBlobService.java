@@ -0,0 +1,168 @@
+package com.wolfiez.wallpaper.service;
+
+import com.wolfiez.wallpaper.config.AsyncConfig;
+import com.wolfiez.wallpaper.entity.ImageBlob;
+import com.wolfiez.wallpaper.event.ImageReleasedEvent;
+import com.wolfiez.wallpaper.exception.ImageProcessingException;
+import com.wolfiez.wallpaper.repository.ImageBlobRepository;
+import com.wolfiez.wallpaper.storage.ImageStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Service that keeps reference counts for stored images and deletes unreferenced ones.
+ *
+ * Every image key held by a board (original and renditions) or a user profile owns
+ * one reference. Counts change under a row lock, always in key order so concurrent
+ * updates cannot deadlock. When a count reaches zero the row is removed and the bytes
+ * are deleted once the transaction has committed, after checking again under the lock
+ * that no upload has claimed the same content in the meantime.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Service
+@Transactional
+public class ImageBlobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageBlobService.class);
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageStore imageStore;
+    private final ImageService imageService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ImageBlobService(ImageBlobRepository imageBlobRepository, ImageStore imageStore,
+                            ImageService imageService, ApplicationEventPublisher eventPublisher) {
+        this.imageBlobRepository = imageBlobRepository;
+        this.imageStore = imageStore;
+        this.imageService = imageService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Adds one reference to each of the given images.
+     *
+     * @param imageKeys Image store keys; null values are ignored
+     */
+    public void acquire(String... imageKeys) {
+        changeReferences(List.of(), Arrays.asList(imageKeys));
+    }
+
+    /**
+     * Drops one reference from each of the given images.
+     *
+     * @param imageKeys Image store keys; null values are ignored
+     */
+    public void release(String... imageKeys) {
+        changeReferences(Arrays.asList(imageKeys), List.of());
+    }
+
+    /**
+     * Moves references from one set of images to another in a single step, as when
+     * a board image is replaced. Re-uploading the image already in place changes nothing.
+     *
+     * @param released Keys losing a reference; null values are ignored
+     * @param acquired Keys gaining a reference; null values are ignored
+     * @throws ImageProcessingException If an acquired image is no longer in the store
+     */
+    public void changeReferences(Collection<String> released, Collection<String> acquired) {
+        Map<String, Integer> deltas = new TreeMap<>();
+        released.stream().filter(Objects::nonNull).forEach(key -> deltas.merge(key, -1, Integer::sum));
+        acquired.stream().filter(Objects::nonNull).forEach(key -> deltas.merge(key, 1, Integer::sum));
+
+        deltas.forEach((key, delta) -> {
+            if (delta > 0) {
+                addReferences(key, delta);
+            } else if (delta < 0) {
+                removeReferences(key, -delta);
+            }
+        });
+    }
+
+    /**
+     * Deletes images that no one references, such as renditions generated for a
+     * board image that was replaced before they could be attached.
+     *
+     * @param imageKeys Image store keys; null values are ignored
+     */
+    public void deleteIfUnreferenced(String... imageKeys) {
+        Arrays.stream(imageKeys).filter(Objects::nonNull).distinct().sorted().forEach(this::deleteIfUnreferencedLocked);
+    }
+
+    /**
+     * Deletes the bytes of an image whose last reference was dropped.
+     *
+     * @param event Event carrying the key of the released image
+     */
+    @Async(AsyncConfig.IMAGE_EXECUTOR)
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onImageReleased(ImageReleasedEvent event) {
+        deleteIfUnreferencedLocked(event.getImageKey());
+    }
+
+    private void addReferences(String key, int count) {
+        imageBlobRepository.insertIfAbsent(key);
+        ImageBlob blob = imageBlobRepository.findForUpdate(key)
+                .orElseThrow(() -> new IllegalStateException("Image blob row missing for " + key));
+        blob.setRefCount(blob.getRefCount() + count);
+
+        // Under the row lock no deletion can be in progress, so a missing file means one already completed
+        if (!imageStore.exists(key)) {
+            throw new ImageProcessingException("Image " + key + " was removed while being stored, please retry");
+        }
+    }
+
+    private void removeReferences(String key, int count) {
+        ImageBlob blob = imageBlobRepository.findForUpdate(key).orElse(null);
+        if (blob == null) {
+            log.warn("Released unreferenced image {}", key);
+            return;
+        }
+
+        int remaining = blob.getRefCount() - count;
+        if (remaining > 0) {
+            blob.setRefCount(remaining);
+            return;
+        }
+
+        imageBlobRepository.delete(blob);
+        eventPublisher.publishEvent(new ImageReleasedEvent(key));
+    }
+
+    /**
+     * Locks the row for the key, creating it if needed so that concurrent uploads of
+     * the same content wait, and deletes the bytes if there are still no references.
+     */
+    private void deleteIfUnreferencedLocked(String key) {
+        imageBlobRepository.insertIfAbsent(key);
+        ImageBlob blob = imageBlobRepository.findForUpdate(key).orElse(null);
+        if (blob == null || blob.getRefCount() > 0) {
+            return;
+        }
+
+        try {
+            imageStore.delete(key);
+            imageService.evictImages(key);
+            imageBlobRepository.delete(blob);
+        } catch (IOException e) {
+            log.warn("Failed to delete unreferenced image {}: {}", key, e.getMessage());
+        }
+    }
+}
@@ -1,15 +1,33 @@
 package com.wolfiez.wallpaper.service;
 
+import com.wolfiez.wallpaper.exception.ImageProcessingException;
+import com.wolfiez.wallpaper.metrics.ImageMetrics;
+import com.wolfiez.wallpaper.storage.ImageCache;
+import com.wolfiez.wallpaper.storage.ImageFormat;
+import com.wolfiez.wallpaper.storage.ImageHeaderParser;
+import com.wolfiez.wallpaper.storage.ImageMetadata;
+import com.wolfiez.wallpaper.storage.ImageStore;
+import com.wolfiez.wallpaper.storage.LimitedInputStream;
+import com.wolfiez.wallpaper.storage.StoredImage;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.multipart.MultipartFile;
+import java.io.BufferedInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
 import java.util.Base64;
 
 
 /**
- * Service for handling image-related operations such as encoding, decoding,
+ * Service for handling image-related operations such as storing, loading
  * and validating image files.
  *
+ * Image bytes are kept in the {@link ImageStore}; the Base64 helpers remain for
+ * reading data written in the legacy TEXT column format.
+ *
  * @author luis
  * @version 1.0
  * @since 25-11-2024
@@ -17,6 +35,24 @@ import java.util.Base64;
 @Service
 public class ImageService {
 
+    /** Largest accepted upload, enforced on the bytes actually read. */
+    public static final long MAX_UPLOAD_BYTES = 5 * 1024 * 1024;
+
+    /** Largest accepted width or height, checked from the header before any decode. */
+    public static final int MAX_IMAGE_DIMENSION = 10_000;
+
+    /** Largest accepted pixel count; a full decode allocates four bytes per pixel. */
+    public static final long MAX_IMAGE_PIXELS = 40_000_000L;
+
+    private final ImageStore imageStore;
+    private final ImageCache imageCache;
+    private final ImageMetrics imageMetrics;
+
+    public ImageService(ImageStore imageStore, ImageCache imageCache, ImageMetrics imageMetrics) {
+        this.imageStore = imageStore;
+        this.imageCache = imageCache;
+        this.imageMetrics = imageMetrics;
+    }
 
     /**
      * Encodes a MultipartFile to a Base64 encoded string.
@@ -28,8 +64,11 @@ public class ImageService {
 
     public String encodeImage(MultipartFile file) throws IOException {
         if (file != null && !file.isEmpty()) {
+            long start = System.nanoTime();
             byte[] imageBytes = file.getBytes();
-            return Base64.getEncoder().encodeToString(imageBytes);
+            String encoded = Base64.getEncoder().encodeToString(imageBytes);
+            imageMetrics.recordEncode(System.nanoTime() - start);
+            return encoded;
         }
         return null;
     }
@@ -43,7 +82,10 @@ public class ImageService {
      */
     public byte[] decodeImage(String base64Image) {
         if (base64Image != null && !base64Image.isEmpty()) {
-            return Base64.getDecoder().decode(base64Image);
+            long start = System.nanoTime();
+            byte[] decoded = Base64.getDecoder().decode(base64Image);
+            imageMetrics.recordDecode(System.nanoTime() - start);
+            return decoded;
         }
         return null;
     }
@@ -52,6 +94,8 @@ public class ImageService {
     /**
      * Validates if the uploaded file is a valid image file.
      *
+     * The file signature is checked rather than the client-supplied content type.
+     *
      * @param file MultipartFile to be validated
      * @return true if file is a valid image (JPEG, PNG, JPG), false otherwise
      */
@@ -60,33 +104,158 @@ public class ImageService {
             return false;
         }
 
-        String contentType = file.getContentType();
-        return contentType != null && (
-                contentType.equals("image/jpeg") ||
-                        contentType.equals("image/png") ||
-                        contentType.equals("image/jpg")
-        );
+        try (InputStream input = file.getInputStream()) {
+            byte[] header = input.readNBytes(ImageFormat.SIGNATURE_LENGTH);
+            return ImageFormat.sniff(header, header.length) != null;
+        } catch (IOException e) {
+            return false;
+        }
     }
 
 
     /**
-     * Processes an image file for storage by validating and encoding it.
+     * Processes an image file for storage by validating it and streaming it to the image store.
      *
      * @param file MultipartFile to be processed
-     * @return Base64 encoded string of the processed image
+     * @return Image store key referencing the stored image
      * @throws IOException If there's an error reading the file
      * @throws IllegalArgumentException If file is invalid or exceeds size limit
+     * @see #storeImage(MultipartFile)
      */
     public String processImageForStorage(MultipartFile file) throws IOException {
-        if (!isValidImageFile(file)) {
+        return storeImage(file).getKey();
+    }
+
+    /**
+     * Validates an uploaded image from its header and streams it to the image store.
+     *
+     * The part is opened once. Its header is parsed from the start of the stream: the
+     * signature decides the format, and the declared dimensions are checked against
+     * {@link #MAX_IMAGE_DIMENSION} and {@link #MAX_IMAGE_PIXELS}, so images that would be
+     * expensive to decode are rejected before anything is written or decoded. The bytes
+     * read for the header are kept and replayed, and the same stream is then copied to
+     * the store, with the size limit enforced on the bytes read.
+     *
+     * @param file MultipartFile to be processed
+     * @return Key of the stored image and the metadata read from its header
+     * @throws IOException If there's an error reading the file
+     * @throws IllegalArgumentException If file is invalid, too large or has too many pixels
+     */
+    public StoredImage storeImage(MultipartFile file) throws IOException {
+        long start = System.nanoTime();
+        if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("Invalid image file format. Only JPEG, JPG and PNG are allowed.");
         }
 
-
-        if (file.getSize() > 5 * 1024 * 1024) {
+        if (file.getSize() > MAX_UPLOAD_BYTES) {
             throw new IllegalArgumentException("File size exceeds maximum limit of 5MB");
         }
 
-        return encodeImage(file);
+        try (InputStream input = file.getInputStream()) {
+            LimitedInputStream limited = new LimitedInputStream(input, MAX_UPLOAD_BYTES);
+            BufferedInputStream buffered = new BufferedInputStream(limited);
+            buffered.mark((int) MAX_UPLOAD_BYTES);
+            ImageMetadata metadata = readMetadata(buffered);
+            buffered.reset();
+            // drop the mark so the rest of the upload streams through a fixed-size buffer
+            buffered.mark(0);
+
+            String key = imageStore.store(buffered);
+            imageMetrics.recordUpload(limited.getCount(), System.nanoTime() - start);
+            return new StoredImage(key, metadata);
+        }
+    }
+
+    /**
+     * Reads and checks the header of an uploaded image.
+     *
+     * @param input Upload stream positioned at its first byte; not closed by this method
+     * @return Metadata declared in the header
+     * @throws IllegalArgumentException If the file is not a readable JPEG or PNG, or its dimensions exceed the limits
+     */
+    private static ImageMetadata readMetadata(InputStream input) {
+        ImageMetadata metadata;
+        try {
+            metadata = ImageHeaderParser.parse(input);
+        } catch (EOFException e) {
+            throw new IllegalArgumentException("Invalid image file: header is truncated");
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid image file: " + e.getMessage());
+        }
+        if (metadata == null) {
+            throw new IllegalArgumentException("Invalid image file format. Only JPEG, JPG and PNG are allowed.");
+        }
+
+        if (metadata.getWidth() > MAX_IMAGE_DIMENSION || metadata.getHeight() > MAX_IMAGE_DIMENSION
+                || metadata.getPixelCount() > MAX_IMAGE_PIXELS) {
+            throw new IllegalArgumentException("Image dimensions " + metadata.getWidth() + "x" + metadata.getHeight()
+                    + " exceed the maximum of " + MAX_IMAGE_DIMENSION + " pixels per side and "
+                    + MAX_IMAGE_PIXELS / 1_000_000 + " megapixels");
+        }
+        return metadata;
+    }
+
+    /**
+     * Opens a stored image as a streamable resource.
+     *
+     * Small images are served from the {@link ImageCache}; on a miss they are read
+     * once and cached. Images above the cache entry limit are streamed from the
+     * store without being read into memory.
+     *
+     * @param imageKey Image store key
+     * @return Resource for the image, or null if the key is null or no longer in the store
+     * @throws ImageProcessingException If the image cannot be read from the store
+     */
+    public Resource loadImage(String imageKey) {
+        if (imageKey == null) {
+            return null;
+        }
+
+        Resource cached = imageCache.get(imageKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            Resource resource = imageStore.load(imageKey);
+            if (!imageCache.accepts(resource.contentLength())) {
+                return resource;
+            }
+            byte[] bytes;
+            try (InputStream input = resource.getInputStream()) {
+                bytes = StreamUtils.copyToByteArray(input);
+            }
+            return imageCache.put(imageKey, bytes);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new ImageProcessingException("Failed to read image " + imageKey, e);
+        }
+    }
+
+    /**
+     * Identifies the format of a loaded image from its leading bytes, so it is served
+     * with its real content type whether it is an original or a generated rendition.
+     *
+     * @param image Resource returned by {@link #loadImage}
+     * @return Format of the image, or null if it is not a JPEG or PNG
+     * @throws ImageProcessingException If the image cannot be read
+     */
+    public ImageFormat detectFormat(Resource image) {
+        byte[] header = new byte[ImageFormat.SIGNATURE_LENGTH];
+        try (InputStream input = image.getInputStream()) {
+            return ImageFormat.sniff(header, input.readNBytes(header, 0, header.length));
+        } catch (IOException e) {
+            throw new ImageProcessingException("Failed to read image " + image.getDescription(), e);
+        }
+    }
+
+    /**
+     * Drops images that are no longer referenced from the in-memory cache.
+     *
+     * @param imageKeys Image store keys; null values are ignored
+     */
+    public void evictImages(String... imageKeys) {
+        imageCache.invalidate(imageKeys);
     }
 }
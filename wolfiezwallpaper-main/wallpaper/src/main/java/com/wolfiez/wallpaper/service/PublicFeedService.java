@@ -0,0 +1,249 @@
+package com.wolfiez.wallpaper.service;
+
+import com.wolfiez.wallpaper.DTO.BoardCursor;
+import com.wolfiez.wallpaper.DTO.BoardSummary;
+import com.wolfiez.wallpaper.DTO.PublicBoardFeed;
+import com.wolfiez.wallpaper.event.BoardDeletedEvent;
+import com.wolfiez.wallpaper.event.BoardSavedEvent;
+import com.wolfiez.wallpaper.repository.BoardRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * Serves the public board feed from memory.
+ *
+ * The newest {@code wallpaper.feed.capacity} public boards are kept as an immutable
+ * array, newest first, behind an {@link AtomicReference}. Reads take the current
+ * array without locking and page through it with the same cursor as the database
+ * feed. Board changes are applied after their transaction commits by swapping in
+ * a new array, so readers never see a change that was rolled back. Changes are
+ * applied one at a time under a lock; changes committed while the window is being
+ * loaded are also buffered and replayed onto the loaded window, so none is lost.
+ * Both locks are {@link ReentrantLock}s, so a rebuild waiting on the database does
+ * not pin a virtual thread's carrier.
+ *
+ * The window is loaded at startup. Until then, and for cursors older than the
+ * oldest board in a full window, pages come from {@link BoardService#getPublicFeed}.
+ * The window only reflects writes made by this instance.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Service
+public class PublicFeedService {
+
+    private final BoardRepository boardRepository;
+    private final BoardService boardService;
+    private final int capacity;
+
+    private final AtomicReference<Window> window = new AtomicReference<>();
+
+    private final Lock rebuildLock = new ReentrantLock();
+    private final Lock changeLock = new ReentrantLock();
+    /** Changes committed since a rebuild started; null when no rebuild is running. */
+    private List<UnaryOperator<Window>> pendingChanges;
+
+    public PublicFeedService(BoardRepository boardRepository, BoardService boardService,
+                             @Value("${wallpaper.feed.capacity:1000}") int capacity) {
+        if (capacity < BoardService.MAX_FEED_LIMIT) {
+            throw new IllegalArgumentException("wallpaper.feed.capacity must be at least " + BoardService.MAX_FEED_LIMIT);
+        }
+        this.boardRepository = boardRepository;
+        this.boardService = boardService;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Loads the newest public boards from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            setPendingChanges(new ArrayList<>());
+            List<BoardSummary> boards;
+            try {
+                boards = boardRepository.findPublicFeed(PageRequest.of(0, capacity + 1));
+            } catch (RuntimeException e) {
+                setPendingChanges(null);
+                throw e;
+            }
+            boolean complete = boards.size() <= capacity;
+            List<BoardSummary> kept = complete ? boards : boards.subList(0, capacity);
+
+            changeLock.lock();
+            try {
+                Window previous = window.get();
+                long version = previous == null ? 0 : previous.version + 1;
+                Window loaded = new Window(kept.toArray(new BoardSummary[0]), complete, version);
+                // the query may not have seen these; reapplying ones it did see is harmless
+                for (UnaryOperator<Window> change : pendingChanges) {
+                    loaded = change.apply(loaded);
+                }
+                pendingChanges = null;
+                window.set(loaded);
+            } finally {
+                changeLock.unlock();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void setPendingChanges(List<UnaryOperator<Window>> changes) {
+        changeLock.lock();
+        try {
+            pendingChanges = changes;
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    /**
+     * Version of the in-memory feed, which changes whenever any board in it changes.
+     * Read it before the page it describes, so a cached copy is never newer than its version.
+     *
+     * @return Current version, or -1 while the feed is still served from the database
+     */
+    public long getVersion() {
+        Window current = window.get();
+        return current == null ? -1 : current.version;
+    }
+
+    /**
+     * Retrieves one page of the public board feed, newest first.
+     *
+     * @param after Cursor token from the previous page, or null for the first page
+     * @param limit Maximum number of boards to return, clamped to {@link BoardService#MAX_FEED_LIMIT}
+     * @return Page of board summaries and the cursor for the next page
+     * @throws IllegalArgumentException If the cursor token is malformed
+     */
+    public PublicBoardFeed getPublicFeed(String after, int limit) {
+        Window current = window.get();
+        if (current == null) {
+            return boardService.getPublicFeed(after, limit);
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, BoardService.MAX_FEED_LIMIT));
+        int from = 0;
+        if (after != null && !after.isBlank()) {
+            BoardCursor cursor = BoardCursor.decode(after);
+            from = current.indexAfter(cursor.getCreatedAt(), cursor.getId());
+        }
+
+        BoardSummary[] boards = current.boards;
+        int to = Math.min(from + pageSize, boards.length);
+        if (to - from < pageSize && !current.complete) {
+            // the page runs past the oldest board held in memory
+            return boardService.getPublicFeed(after, limit);
+        }
+
+        List<BoardSummary> page = List.of(Arrays.copyOfRange(boards, from, to));
+        boolean hasNext = to < boards.length || !current.complete;
+        return new PublicBoardFeed(page, hasNext ? BoardCursor.of(page.get(page.size() - 1)).encode() : null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardSaved(BoardSavedEvent event) {
+        BoardSummary summary = event.getSummary();
+        apply(current -> current.with(summary, capacity));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardDeleted(BoardDeletedEvent event) {
+        Long boardId = event.getBoardId();
+        apply(current -> current.without(boardId));
+    }
+
+    private void apply(UnaryOperator<Window> change) {
+        changeLock.lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            Window current = window.get();
+            if (current != null) {
+                window.set(change.apply(current));
+            }
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    /**
+     * Newest public boards, ordered by {@code (createdAt, id)} descending.
+     * {@code complete} is true when no older public board exists outside the window.
+     */
+    private record Window(BoardSummary[] boards, boolean complete, long version) {
+
+        /**
+         * @return Index of the first board older than the given position
+         */
+        int indexAfter(LocalDateTime createdAt, Long id) {
+            int low = 0;
+            int high = boards.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (isOlder(boards[mid], createdAt, id)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        Window with(BoardSummary summary, int capacity) {
+            Window rest = without(summary.getId());
+            if (summary.isPrivate()) {
+                return rest;
+            }
+            BoardSummary[] current = rest.boards;
+            int index = rest.indexAfter(summary.getCreatedAt(), summary.getId());
+            if (index == current.length && !rest.complete) {
+                // older than everything held; it belongs to the part of the feed left in the database
+                return rest;
+            }
+
+            List<BoardSummary> boards = new ArrayList<>(current.length + 1);
+            boards.addAll(Arrays.asList(current).subList(0, index));
+            boards.add(summary);
+            boards.addAll(Arrays.asList(current).subList(index, current.length));
+            if (boards.size() > capacity) {
+                return new Window(boards.subList(0, capacity).toArray(new BoardSummary[0]), false, version + 1);
+            }
+            return new Window(boards.toArray(new BoardSummary[0]), rest.complete, version + 1);
+        }
+
+        Window without(Long boardId) {
+            for (int i = 0; i < boards.length; i++) {
+                if (boards[i].getId().equals(boardId)) {
+                    BoardSummary[] remaining = new BoardSummary[boards.length - 1];
+                    System.arraycopy(boards, 0, remaining, 0, i);
+                    System.arraycopy(boards, i + 1, remaining, i, boards.length - i - 1);
+                    return new Window(remaining, complete, version + 1);
+                }
+            }
+            return this;
+        }
+
+        private static boolean isOlder(BoardSummary board, LocalDateTime createdAt, Long id) {
+            int byDate = board.getCreatedAt().compareTo(createdAt);
+            return byDate < 0 || (byDate == 0 && board.getId() < id);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.wolfiez.wallpaper.service;
+
+import com.wolfiez.wallpaper.config.AsyncConfig;
+import com.wolfiez.wallpaper.event.BoardImageUpdatedEvent;
+import com.wolfiez.wallpaper.exception.ImageProcessingException;
+import com.wolfiez.wallpaper.storage.ImageRendition;
+import com.wolfiez.wallpaper.storage.ImageStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * Service that generates the smaller renditions of board images.
+ *
+ * Runs on the bounded image executor once the upload transaction has committed.
+ * The original is decoded once with source subsampling, so large uploads are never
+ * fully expanded in memory, and the thumbnail is derived from the medium rendition.
+ * Images already smaller than a rendition reuse the original key. Each attached
+ * rendition holds its own reference on the stored bytes; renditions that cannot be
+ * attached, because generation failed partway or the board image changed, are deleted.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Service
+public class RenditionService {
+
+    private static final Logger log = LoggerFactory.getLogger(RenditionService.class);
+
+    private final ImageStore imageStore;
+    private final BoardService boardService;
+    private final ImageBlobService imageBlobService;
+
+    public RenditionService(ImageStore imageStore, BoardService boardService, ImageBlobService imageBlobService) {
+        this.imageStore = imageStore;
+        this.boardService = boardService;
+        this.imageBlobService = imageBlobService;
+    }
+
+    /**
+     * Generates the thumbnail and medium renditions for a newly uploaded board image.
+     *
+     * @param event Event carrying the board id and the key of the original image
+     */
+    @Async(AsyncConfig.IMAGE_EXECUTOR)
+    @TransactionalEventListener
+    public void onBoardImageUpdated(BoardImageUpdatedEvent event) {
+        String mediumKey = null;
+        String thumbKey = null;
+        try {
+            BufferedImage medium = readScaled(event.getImageKey(), ImageRendition.MEDIUM.getMaxWidth());
+            mediumKey = storeRendition(event.getImageKey(), medium, ImageRendition.MEDIUM);
+            thumbKey = storeRendition(event.getImageKey(), medium, ImageRendition.THUMB);
+
+            // Only applies if the board still points at the same original; otherwise the renditions are orphans
+            if (boardService.attachRenditions(event.getBoardId(), event.getImageKey(), thumbKey, mediumKey)) {
+                return;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to generate renditions for board {}: {}", event.getBoardId(), e.getMessage());
+        }
+        discard(event.getBoardId(), thumbKey, mediumKey);
+    }
+
+    /**
+     * Deletes renditions that were stored but not attached. They hold no reference
+     * until attached, so any other user of the same bytes keeps them alive.
+     *
+     * @param boardId Board the renditions were generated for
+     * @param renditionKeys Keys of the stored renditions; null values are ignored
+     */
+    private void discard(Long boardId, String... renditionKeys) {
+        try {
+            imageBlobService.deleteIfUnreferenced(renditionKeys);
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete unattached renditions for board {}: {}", boardId, e.getMessage());
+        }
+    }
+
+    /**
+     * Decodes an image, subsampling rows and columns so the result is close to the target width.
+     *
+     * @param imageKey Key of the original image
+     * @param targetWidth Width the caller intends to scale to
+     * @return Decoded image, at least {@code targetWidth} wide unless the original is smaller
+     * @throws IOException If the image cannot be read
+     */
+    private BufferedImage readScaled(String imageKey, int targetWidth) throws IOException {
+        try (InputStream input = imageStore.load(imageKey).getInputStream();
+             ImageInputStream stream = ImageIO.createImageInputStream(input)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                throw new ImageProcessingException("Unsupported image format");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                int step = Math.max(1, reader.getWidth(0) / targetWidth);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scales the source down to the rendition width and writes it to the image store.
+     *
+     * @param originalKey Key of the original image, reused when no scaling is needed
+     * @param source Decoded source image
+     * @param rendition Target rendition
+     * @return Key of the stored rendition
+     * @throws IOException If the rendition cannot be encoded or stored
+     */
+    private String storeRendition(String originalKey, BufferedImage source, ImageRendition rendition) throws IOException {
+        if (source.getWidth() <= rendition.getMaxWidth()) {
+            return originalKey;
+        }
+
+        boolean alpha = source.getColorModel().hasAlpha();
+        int width = rendition.getMaxWidth();
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage scaled = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (!ImageIO.write(scaled, alpha ? "png" : "jpg", output)) {
+            throw new ImageProcessingException("No writer available for rendition " + rendition.getParam());
+        }
+        return imageStore.store(output.toByteArray());
+    }
+}
@@ -1,22 +1,37 @@
 package com.wolfiez.wallpaper.service;
 
+import com.wolfiez.wallpaper.DTO.ImageReference;
 import com.wolfiez.wallpaper.DTO.LoginDTO;
 import com.wolfiez.wallpaper.DTO.UserDto;
 import com.wolfiez.wallpaper.DTO.UserRegistrationDTO;
+import com.wolfiez.wallpaper.DTO.UserSearchPage;
+import com.wolfiez.wallpaper.DTO.UserSummary;
+import com.wolfiez.wallpaper.entity.Board;
 import com.wolfiez.wallpaper.entity.User;
+import com.wolfiez.wallpaper.event.BoardDeletedEvent;
 import com.wolfiez.wallpaper.exception.AuthenticationException;
 import com.wolfiez.wallpaper.exception.DuplicateResourceException;
 import com.wolfiez.wallpaper.exception.UserNotFoundException;
 import com.wolfiez.wallpaper.repository.RoleRepository;
 import com.wolfiez.wallpaper.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import com.wolfiez.wallpaper.security.AuthenticationCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
 
 /**
@@ -30,18 +45,37 @@ import java.util.List;
 @Service
 @Transactional
 public class UserService {
+    public static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    public static final int MAX_SEARCH_PAGE_SIZE = 50;
+    public static final int MAX_SEARCH_WINDOW = 1000;
+    public static final int TYPEAHEAD_LIMIT = 10;
+
+    /** Shorter keywords cannot use the trigram indexes, so they are matched as prefixes. */
+    private static final int MIN_SUBSTRING_LENGTH = 3;
+
     @Autowired
     private ImageService imageService;
 
+    @Autowired
+    private ImageBlobService imageBlobService;
+
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthenticationCache authenticationCache;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
 
-    public UserService(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder,
+                       AuthenticationCache authenticationCache, MeterRegistry meterRegistry,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.authenticationCache = authenticationCache;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -53,11 +87,14 @@ public class UserService {
      * @throws IOException If there's an error processing the image
      */
     public User updateProfileImage(Long userId, MultipartFile imageFile) throws IOException {
-        User user = userRepository.findById(userId)
+        User user = userRepository.findWithRolesById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        String encodedImage = imageService.processImageForStorage(imageFile);
-        user.setProfileImage(encodedImage);
+        String imageKey = imageService.processImageForStorage(imageFile);
+        imageBlobService.changeReferences(Collections.singletonList(user.getProfileImageKey()), List.of(imageKey));
+        user.setProfileImageKey(imageKey);
+        user.setProfileImageUpdatedAt(LocalDateTime.now());
+        authenticationCache.invalidateUser(userId);
 
         return userRepository.save(user);
     }
@@ -66,43 +103,76 @@ public class UserService {
      * Retrieves the profile image for a specific user.
      *
      * @param userId Unique identifier of the user
-     * @return Byte array representing the profile image, or null if no image exists
+     * @return Reference to the profile image, or null if no image exists
+     * @throws UserNotFoundException If user is not found
      */
-    public byte[] getProfileImage(Long userId) {
+    @Transactional(readOnly = true)
+    public ImageReference getProfileImage(Long userId) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + userId));
 
-        if (user.getProfileImage() == null) {
+        if (user.getProfileImageKey() == null) {
             return null;
         }
-
-        return imageService.decodeImage(user.getProfileImage());
+        return ImageReference.of(user.getProfileImageKey(), user.getProfileImageKey(), true,
+                user.getProfileImageUpdatedAt());
     }
 
     /**
      * Removes the profile image for a specific user.
      *
      * @param userId Unique identifier of the user
+     * @throws UserNotFoundException If user is not found
      */
     public void removeProfileImage(Long userId) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        user.setProfileImage(null);
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + userId));
+        imageBlobService.release(user.getProfileImageKey());
+        user.setProfileImageKey(null);
+        user.setProfileImageUpdatedAt(LocalDateTime.now());
+        authenticationCache.invalidateUser(userId);
         userRepository.save(user);
     }
+
+    /**
+     * Verifies login credentials.
+     * Credentials verified within the cache TTL are answered from
+     * {@link AuthenticationCache} without a database lookup or BCrypt check.
+     * Timed as {@code wallpaper.auth.login}, tagged {@code method=api} and with the outcome;
+     * form logins are timed by {@link com.wolfiez.wallpaper.security.TimedAuthenticationProvider}.
+     *
+     * @param loginDTO Submitted email and password
+     * @return Authenticated user
+     * @throws AuthenticationException If the credentials are invalid or the account is disabled
+     */
     public User authenticateUser(LoginDTO loginDTO) {
-        User user = userRepository.findByEmail(loginDTO.getEmail())
-                .orElseThrow(() -> new AuthenticationException("Invalid email or password"));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            long cacheGeneration = authenticationCache.generation();
+            User cached = authenticationCache.getVerifiedUser(loginDTO.getEmail(), loginDTO.getPassword());
+            if (cached != null) {
+                outcome = "cached";
+                return cached;
+            }
 
-        if (!passwordEncoder.matches(loginDTO.getPassword(), user.getPassword())) {
-            throw new AuthenticationException("Invalid email or password");
-        }
+            User user = userRepository.findByEmail(loginDTO.getEmail())
+                    .orElseThrow(() -> new AuthenticationException("Invalid email or password"));
 
-        if (!user.isActive()) {
-            throw new AuthenticationException("Account is disabled");
-        }
+            if (!passwordEncoder.matches(loginDTO.getPassword(), user.getPassword())) {
+                throw new AuthenticationException("Invalid email or password");
+            }
 
-        return user;
+            if (!user.isActive()) {
+                throw new AuthenticationException("Account is disabled");
+            }
+
+            authenticationCache.putVerifiedUser(loginDTO.getEmail(), loginDTO.getPassword(), user, cacheGeneration);
+            outcome = "success";
+            return user;
+        } finally {
+            sample.stop(meterRegistry.timer("wallpaper.auth.login", "method", "api", "outcome", outcome));
+        }
     }
 
     public User registerUser(UserRegistrationDTO registrationDTO) {
@@ -118,13 +188,27 @@ public class UserService {
         return userRepository.save(user);
     }
 
+    @Transactional(readOnly = true)
     public User getUserById(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
     }
 
+    /**
+     * Retrieves a user with its roles fetched in the same query, for API responses.
+     *
+     * @param id Unique user identifier
+     * @return User entity with roles initialized
+     * @throws UserNotFoundException If user is not found
+     */
+    @Transactional(readOnly = true)
+    public User getUserWithRoles(Long id) {
+        return userRepository.findWithRolesById(id)
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
+    }
+
     public User updateUser(Long userId, UserDto userDto, MultipartFile profileImage, String newPassword) {
-        User user = getUserById(userId);
+        User user = getUserWithRoles(userId);
 
         // Validate email uniqueness
         if (!user.getEmail().equals(userDto.getEmail()) && userRepository.existsByEmail(userDto.getEmail())) {
@@ -138,8 +222,10 @@ public class UserService {
         // Handle profile image update
         if (profileImage != null && !profileImage.isEmpty()) {
             try {
-                String encodedImage = imageService.processImageForStorage(profileImage);
-                user.setProfileImage(encodedImage);
+                String imageKey = imageService.processImageForStorage(profileImage);
+                imageBlobService.changeReferences(Collections.singletonList(user.getProfileImageKey()), List.of(imageKey));
+                user.setProfileImageKey(imageKey);
+                user.setProfileImageUpdatedAt(LocalDateTime.now());
             } catch (IOException e) {
                 throw new RuntimeException("Failed to process profile image", e);
             }
@@ -148,8 +234,10 @@ public class UserService {
         // Handle password update
         if (newPassword != null && !newPassword.isEmpty()) {
             user.setPassword(passwordEncoder.encode(newPassword));
+            user.setCredentialsVersion(user.getCredentialsVersion() + 1);
         }
 
+        authenticationCache.invalidateUser(userId);
         return userRepository.save(user);
     }
     public User getUserByEmail(String email) {
@@ -159,13 +247,71 @@ public class UserService {
 
     public void deleteUser(Long id) {
         User user = getUserById(id);
+        List<String> imageKeys = new ArrayList<>();
+        imageKeys.add(user.getProfileImageKey());
+        user.getBoards().forEach(board -> imageKeys.addAll(BoardService.boardImageKeys(board)));
+        imageBlobService.changeReferences(imageKeys, List.of());
+
+        authenticationCache.invalidateUser(id);
+        List<Long> boardIds = user.getBoards().stream().map(Board::getId).toList();
         userRepository.delete(user);
+        boardIds.forEach(boardId -> eventPublisher.publishEvent(new BoardDeletedEvent(boardId, id)));
+    }
+
+    /**
+     * Searches users whose name or email contains the keyword, ignoring case.
+     * Keywords shorter than three characters only match as a prefix.
+     *
+     * @param keyword Search term
+     * @param page Zero-based page number
+     * @param size Page size, at most {@link #MAX_SEARCH_PAGE_SIZE}
+     * @return Page of slim user summaries ordered by name
+     * @throws IllegalArgumentException If the page is out of range
+     */
+    @Transactional(readOnly = true)
+    public UserSearchPage searchUsers(String keyword, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE || (long) (page + 1) * size > MAX_SEARCH_WINDOW) {
+            throw new IllegalArgumentException("Invalid page or size");
+        }
+        String term = normalizeSearchTerm(keyword);
+        if (term.isEmpty()) {
+            return new UserSearchPage(List.of(), page, size, false);
+        }
+
+        String pattern = term.length() < MIN_SUBSTRING_LENGTH ? term + "%" : "%" + term + "%";
+        Slice<UserSummary> slice = userRepository.searchUserSummaries(pattern, PageRequest.of(page, size));
+        return new UserSearchPage(slice.getContent(), page, size, slice.hasNext());
+    }
+
+    /**
+     * Suggests users whose name or email starts with the given text, for typeahead.
+     * Never returns more than {@link #TYPEAHEAD_LIMIT} users.
+     *
+     * @param prefix Text typed so far
+     * @param limit Requested number of suggestions
+     * @return User summaries ordered by name
+     */
+    @Transactional(readOnly = true)
+    public List<UserSummary> suggestUsers(String prefix, int limit) {
+        String term = normalizeSearchTerm(prefix);
+        if (term.isEmpty()) {
+            return List.of();
+        }
+        int cappedLimit = Math.max(1, Math.min(limit, TYPEAHEAD_LIMIT));
+        return userRepository.searchUserSummaries(term + "%", PageRequest.of(0, cappedLimit)).getContent();
     }
 
-    public List<User> searchUsers(String keyword) {
-        return userRepository.searchUsers(keyword);
+    private static String normalizeSearchTerm(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        return keyword.trim().toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
     }
 
+    @Transactional(readOnly = true)
     public List<User> getUsersByRole(String roleName) {
         return userRepository.findByRoleName(roleName);
     }
@@ -0,0 +1,54 @@
+package com.wolfiez.wallpaper.storage;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * Helpers for computing and validating SHA-256 content keys.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+public final class ContentHash {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private ContentHash() {
+    }
+
+    /**
+     * Creates a new SHA-256 digest.
+     *
+     * @return Fresh MessageDigest instance
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Computes the lowercase hex SHA-256 of the given bytes.
+     *
+     * @param data Bytes to hash
+     * @return 64 character hex key
+     */
+    public static String sha256Hex(byte[] data) {
+        return HexFormat.of().formatHex(newDigest().digest(data));
+    }
+
+    /**
+     * Checks that a key is a well-formed SHA-256 hex string.
+     *
+     * @param key Key to validate
+     * @return true if the key can be safely used as a storage path
+     */
+    public static boolean isValidKey(String key) {
+        return key != null && KEY_PATTERN.matcher(key).matches();
+    }
+}
@@ -0,0 +1,197 @@
+package com.wolfiez.wallpaper.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory LRU cache of image bytes with a total byte budget.
+ *
+ * Entries are keyed by image store key. Since keys are content hashes they also
+ * identify the version of a board image, so a new upload never sees stale bytes;
+ * callers still invalidate replaced keys to release memory early.
+ * Entries larger than {@code max-entry-bytes} are not cached and keep being
+ * streamed from the store.
+ *
+ * With {@code off-heap=true} bytes are kept in direct buffers, so a large cache
+ * does not add to the heap the garbage collector has to scan.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Component
+public class ImageCache {
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final boolean offHeap;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, ByteBuffer> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long currentBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ImageCache(@Value("${wallpaper.images.cache.max-bytes:67108864}") long maxBytes,
+                      @Value("${wallpaper.images.cache.max-entry-bytes:1048576}") long maxEntryBytes,
+                      @Value("${wallpaper.images.cache.off-heap:false}") boolean offHeap) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxBytes);
+        this.offHeap = offHeap;
+    }
+
+    /**
+     * Looks up an image and records a hit or miss.
+     *
+     * @param key Image store key
+     * @return Resource over the cached bytes, or null if not cached
+     */
+    public Resource get(String key) {
+        ByteBuffer buffer;
+        lock.lock();
+        try {
+            buffer = entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+
+        if (buffer == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return toResource(buffer);
+    }
+
+    /**
+     * Checks whether an image of the given size is small enough to be cached.
+     *
+     * @param size Image size in bytes
+     * @return true if {@link #put(String, byte[])} would keep it
+     */
+    public boolean accepts(long size) {
+        return maxBytes > 0 && size >= 0 && size <= maxEntryBytes;
+    }
+
+    /**
+     * Caches the bytes of an image, evicting least recently used entries as needed.
+     *
+     * @param key Image store key
+     * @param data Image bytes
+     * @return Resource over the cached bytes
+     */
+    public Resource put(String key, byte[] data) {
+        if (!accepts(data.length)) {
+            return new ByteArrayResource(data);
+        }
+
+        ByteBuffer buffer;
+        if (offHeap) {
+            buffer = ByteBuffer.allocateDirect(data.length);
+            buffer.put(data).flip();
+        } else {
+            buffer = ByteBuffer.wrap(data);
+        }
+
+        lock.lock();
+        try {
+            ByteBuffer previous = entries.put(key, buffer);
+            if (previous != null) {
+                currentBytes -= previous.capacity();
+            }
+            currentBytes += buffer.capacity();
+            evictToBudget();
+        } finally {
+            lock.unlock();
+        }
+        return toResource(buffer);
+    }
+
+    /**
+     * Removes the given keys from the cache. Null keys are ignored.
+     *
+     * @param keys Image store keys
+     */
+    public void invalidate(String... keys) {
+        lock.lock();
+        try {
+            for (String key : keys) {
+                if (key == null) {
+                    continue;
+                }
+                ByteBuffer removed = entries.remove(key);
+                if (removed != null) {
+                    currentBytes -= removed.capacity();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return Fraction of lookups served from the cache, 0 if there were none
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public long getSizeBytes() {
+        lock.lock();
+        try {
+            return currentBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getEntryCount() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictToBudget() {
+        Iterator<Map.Entry<String, ByteBuffer>> iterator = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && iterator.hasNext()) {
+            currentBytes -= iterator.next().getValue().capacity();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private Resource toResource(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return new ByteArrayResource(buffer.array());
+        }
+        return new ByteBufferResource(buffer);
+    }
+}
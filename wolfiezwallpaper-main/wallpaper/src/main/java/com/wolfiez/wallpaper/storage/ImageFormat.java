@@ -0,0 +1,50 @@
+package com.wolfiez.wallpaper.storage;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+/**
+ * Image formats accepted for upload, recognised by their file signature
+ * rather than by the client-supplied content type.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+public enum ImageFormat {
+    JPEG(MediaType.IMAGE_JPEG, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+    PNG(MediaType.IMAGE_PNG, new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+
+    /** Number of leading bytes needed to recognise any supported format. */
+    public static final int SIGNATURE_LENGTH = 8;
+
+    private final MediaType mediaType;
+    private final byte[] signature;
+
+    ImageFormat(MediaType mediaType, byte[] signature) {
+        this.mediaType = mediaType;
+        this.signature = signature;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Identifies a format from the first bytes of a file.
+     *
+     * @param header Leading bytes of the file
+     * @param length Number of valid bytes in {@code header}
+     * @return Matching format, or null if the bytes are not a supported image
+     */
+    public static ImageFormat sniff(byte[] header, int length) {
+        for (ImageFormat format : values()) {
+            if (length >= format.signature.length
+                    && Arrays.equals(header, 0, format.signature.length, format.signature, 0, format.signature.length)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,147 @@
+package com.wolfiez.wallpaper.storage;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * Reads image metadata from JPEG and PNG file headers without decoding pixels.
+ *
+ * PNG keeps its dimensions in the IHDR chunk at a fixed offset; the chunk's CRC is
+ * checked so a corrupted header is not trusted. JPEG segments are
+ * skipped by their declared length until the start-of-frame marker, so APP and
+ * comment segments are never buffered. Either way only the header is read, which
+ * lets uploads be rejected on their declared size before any decode is attempted.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+public final class ImageHeaderParser {
+
+    private static final int PNG_IHDR_LENGTH = 13;
+    private static final int PNG_IHDR_TYPE = 0x49484452;
+
+    private ImageHeaderParser() {
+    }
+
+    /**
+     * Parses the header of an image.
+     *
+     * @param input Stream positioned at the start of the file; not closed by this method
+     * @return Header metadata, or null if the content is not a JPEG or PNG image
+     * @throws IOException If the stream cannot be read or the header is truncated or malformed
+     */
+    public static ImageMetadata parse(InputStream input) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(input, 8 * 1024));
+        byte[] signature = new byte[ImageFormat.SIGNATURE_LENGTH];
+        data.mark(signature.length);
+        int length = data.readNBytes(signature, 0, signature.length);
+        data.reset();
+
+        ImageFormat format = ImageFormat.sniff(signature, length);
+        if (format == null) {
+            return null;
+        }
+        return switch (format) {
+            case PNG -> parsePng(data);
+            case JPEG -> parseJpeg(data);
+        };
+    }
+
+    private static ImageMetadata parsePng(DataInputStream data) throws IOException {
+        data.skipNBytes(ImageFormat.SIGNATURE_LENGTH);
+        if (data.readInt() != PNG_IHDR_LENGTH) {
+            throw new IOException("PNG does not start with an IHDR chunk");
+        }
+        // chunk type and data, which the CRC covers
+        byte[] chunk = new byte[4 + PNG_IHDR_LENGTH];
+        data.readFully(chunk);
+        ByteBuffer ihdr = ByteBuffer.wrap(chunk);
+        if (ihdr.getInt() != PNG_IHDR_TYPE) {
+            throw new IOException("PNG does not start with an IHDR chunk");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(chunk);
+        if ((int) crc.getValue() != data.readInt()) {
+            throw new IOException("PNG IHDR checksum mismatch");
+        }
+
+        int width = ihdr.getInt();
+        int height = ihdr.getInt();
+        int bitDepth = Byte.toUnsignedInt(ihdr.get());
+        ImageMetadata.ColorType colorType = switch (Byte.toUnsignedInt(ihdr.get())) {
+            case 0 -> ImageMetadata.ColorType.GRAYSCALE;
+            case 2 -> ImageMetadata.ColorType.RGB;
+            case 3 -> ImageMetadata.ColorType.INDEXED;
+            case 4 -> ImageMetadata.ColorType.GRAYSCALE_ALPHA;
+            case 6 -> ImageMetadata.ColorType.RGBA;
+            default -> throw new IOException("Unknown PNG color type");
+        };
+        // PNG dimensions are unsigned 31-bit values; negative means the header is corrupt
+        if (width <= 0 || height <= 0) {
+            throw new IOException("Invalid PNG dimensions");
+        }
+        return new ImageMetadata(ImageFormat.PNG, width, height, colorType, bitDepth);
+    }
+
+    private static ImageMetadata parseJpeg(DataInputStream data) throws IOException {
+        data.skipNBytes(2);
+        while (true) {
+            int marker = nextMarker(data);
+            if (isStartOfFrame(marker)) {
+                data.readUnsignedShort();
+                int precision = data.readUnsignedByte();
+                int height = data.readUnsignedShort();
+                int width = data.readUnsignedShort();
+                int components = data.readUnsignedByte();
+                ImageMetadata.ColorType colorType = switch (components) {
+                    case 1 -> ImageMetadata.ColorType.GRAYSCALE;
+                    case 3 -> ImageMetadata.ColorType.RGB;
+                    case 4 -> ImageMetadata.ColorType.CMYK;
+                    default -> throw new IOException("Unsupported JPEG component count " + components);
+                };
+                // A zero height defers the line count to a later DNL marker, which is not supported
+                if (width == 0 || height == 0) {
+                    throw new IOException("Invalid JPEG dimensions");
+                }
+                return new ImageMetadata(ImageFormat.JPEG, width, height, colorType, precision);
+            }
+            if (marker == 0xD9 || marker == 0xDA) {
+                throw new IOException("JPEG has no frame header before the image data");
+            }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD8)) {
+                continue;
+            }
+            int segmentLength = data.readUnsignedShort();
+            if (segmentLength < 2) {
+                throw new IOException("Invalid JPEG segment length");
+            }
+            data.skipNBytes(segmentLength - 2);
+        }
+    }
+
+    /**
+     * Reads up to the next marker, skipping fill bytes.
+     */
+    private static int nextMarker(DataInputStream data) throws IOException {
+        if (data.readUnsignedByte() != 0xFF) {
+            throw new IOException("Expected a JPEG marker");
+        }
+        int marker;
+        do {
+            marker = data.readUnsignedByte();
+        } while (marker == 0xFF);
+        return marker;
+    }
+
+    /**
+     * SOF0 to SOF15, excluding DHT (C4), JPG (C8) and DAC (CC) which share the range.
+     */
+    private static boolean isStartOfFrame(int marker) {
+        return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+}
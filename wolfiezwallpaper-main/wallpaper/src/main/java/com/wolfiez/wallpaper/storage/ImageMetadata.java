@@ -0,0 +1,67 @@
+package com.wolfiez.wallpaper.storage;
+
+/**
+ * Format, dimensions and color layout of an image, as declared in its file header.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+public final class ImageMetadata {
+
+    /**
+     * Color layout of the stored pixels.
+     */
+    public enum ColorType {
+        GRAYSCALE,
+        GRAYSCALE_ALPHA,
+        RGB,
+        RGBA,
+        INDEXED,
+        CMYK
+    }
+
+    private final ImageFormat format;
+    private final int width;
+    private final int height;
+    private final ColorType colorType;
+    private final int bitDepth;
+
+    public ImageMetadata(ImageFormat format, int width, int height, ColorType colorType, int bitDepth) {
+        this.format = format;
+        this.width = width;
+        this.height = height;
+        this.colorType = colorType;
+        this.bitDepth = bitDepth;
+    }
+
+    public ImageFormat getFormat() {
+        return format;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public ColorType getColorType() {
+        return colorType;
+    }
+
+    /**
+     * @return Bits per sample (per channel, or per palette index for indexed images)
+     */
+    public int getBitDepth() {
+        return bitDepth;
+    }
+
+    /**
+     * @return Number of pixels a full decode would allocate
+     */
+    public long getPixelCount() {
+        return (long) width * height;
+    }
+}
@@ -0,0 +1,55 @@
+package com.wolfiez.wallpaper.storage;
+
+/**
+ * Sizes in which board images are served.
+ *
+ * {@code THUMB} and {@code MEDIUM} are generated in the background after upload;
+ * {@code FULL} is the original image as uploaded.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+public enum ImageRendition {
+    THUMB("thumb", 400),
+    MEDIUM("medium", 1280),
+    FULL("full", 0);
+
+    private final String param;
+    private final int maxWidth;
+
+    ImageRendition(String param, int maxWidth) {
+        this.param = param;
+        this.maxWidth = maxWidth;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    /**
+     * @return Maximum width in pixels, or 0 for the original size
+     */
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    /**
+     * Resolves a rendition from its request parameter value.
+     *
+     * @param param Parameter value ({@code thumb}, {@code medium} or {@code full})
+     * @return Matching rendition, {@code FULL} if the value is null
+     * @throws IllegalArgumentException If the value is unknown
+     */
+    public static ImageRendition fromParam(String param) {
+        if (param == null) {
+            return FULL;
+        }
+        for (ImageRendition rendition : values()) {
+            if (rendition.param.equalsIgnoreCase(param)) {
+                return rendition;
+            }
+        }
+        throw new IllegalArgumentException("Unknown image size: " + param);
+    }
+}
@@ -0,0 +1,80 @@
+package com.wolfiez.wallpaper.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Abstraction over the backend that holds raw image bytes.
+ *
+ * Entities only keep the key returned by {@link #store(byte[])}; the bytes
+ * themselves live in the store so database rows stay small and images can be
+ * served without any Base64 decoding.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+public interface ImageStore {
+
+    /**
+     * Stores the given bytes and returns the key under which they can be read back.
+     * Implementations are content-addressed, so storing the same bytes twice
+     * yields the same key and does not duplicate data.
+     *
+     * @param data Raw image bytes
+     * @return Reference key for the stored image
+     * @throws IOException If the bytes could not be written
+     */
+    String store(byte[] data) throws IOException;
+
+    /**
+     * Streams content into the store and returns its key. The content is copied
+     * through a fixed-size buffer and hashed on the way, so memory use does not
+     * depend on the size of the image. Exceptions thrown by the stream (such as
+     * a size limit) abort the write without leaving partial data behind.
+     *
+     * @param data Stream positioned at the start of the image; not closed by this method
+     * @return Reference key for the stored image
+     * @throws IOException If the stream cannot be read or the image cannot be written
+     */
+    String store(InputStream data) throws IOException;
+
+    /**
+     * Reads the bytes stored under the given key.
+     *
+     * @param key Reference key returned by {@link #store(byte[])}
+     * @return Raw image bytes
+     * @throws IOException If the image does not exist or cannot be read
+     */
+    byte[] read(String key) throws IOException;
+
+    /**
+     * Opens the image stored under the given key as a streamable resource.
+     * The bytes are not loaded into memory; callers stream them straight to
+     * the response, which also allows serving byte ranges.
+     *
+     * @param key Reference key returned by {@link #store(byte[])}
+     * @return Resource pointing to the stored image
+     * @throws java.nio.file.NoSuchFileException If the image does not exist
+     * @throws IOException If the image cannot be opened
+     */
+    Resource load(String key) throws IOException;
+
+    /**
+     * Checks whether an image is stored under the given key.
+     *
+     * @param key Reference key
+     * @return true if the image exists
+     */
+    boolean exists(String key);
+
+    /**
+     * Deletes the image stored under the given key. Missing keys are ignored.
+     *
+     * @param key Reference key
+     * @throws IOException If the image exists but cannot be deleted
+     */
+    void delete(String key) throws IOException;
+}
@@ -0,0 +1,102 @@
+package com.wolfiez.wallpaper.storage;
+
+import com.wolfiez.wallpaper.service.ImageBlobService;
+import com.wolfiez.wallpaper.service.ImageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One-shot migration that moves Base64 images out of the legacy TEXT columns
+ * ({@code boards.image} and {@code users.profile_image}) into the {@link ImageStore}.
+ *
+ * Rows are processed in small id-ordered batches so only a handful of images are
+ * in memory at a time. Each migrated row gets its reference key written and the
+ * legacy column cleared, so the migration can be re-run safely after an interruption.
+ * Identical images are stored once and counted as references to the same key.
+ * Once it has completed the legacy columns can be dropped.
+ *
+ * Enabled with {@code wallpaper.storage.migrate-legacy=true}.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Component
+@ConditionalOnProperty(prefix = "wallpaper.storage", name = "migrate-legacy", havingValue = "true")
+public class LegacyImageMigration implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LegacyImageMigration.class);
+    private static final int BATCH_SIZE = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageStore imageStore;
+    private final ImageService imageService;
+    private final ImageBlobService imageBlobService;
+
+    public LegacyImageMigration(JdbcTemplate jdbcTemplate, ImageStore imageStore, ImageService imageService,
+                                ImageBlobService imageBlobService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.imageStore = imageStore;
+        this.imageService = imageService;
+        this.imageBlobService = imageBlobService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        migrateColumn("boards", "image", "image_key");
+        migrateColumn("users", "profile_image", "profile_image_key");
+    }
+
+    /**
+     * Migrates every non-null value of a legacy Base64 column into the image store.
+     *
+     * @param table Table name
+     * @param legacyColumn Column holding the Base64 string
+     * @param keyColumn Column receiving the image store key
+     * @throws IOException If an image cannot be written to the store
+     */
+    private void migrateColumn(String table, String legacyColumn, String keyColumn) throws IOException {
+        if (!columnExists(table, legacyColumn)) {
+            log.info("No legacy column {}.{} found, skipping image migration", table, legacyColumn);
+            return;
+        }
+
+        String select = "SELECT id, " + legacyColumn + " AS data FROM " + table
+                + " WHERE id > ? AND " + legacyColumn + " IS NOT NULL ORDER BY id LIMIT " + BATCH_SIZE;
+        String update = "UPDATE " + table + " SET " + keyColumn + " = ?, " + legacyColumn + " = NULL WHERE id = ?";
+
+        long lastId = 0;
+        int migrated = 0;
+        List<Map<String, Object>> rows;
+        do {
+            rows = jdbcTemplate.queryForList(select, lastId);
+            for (Map<String, Object> row : rows) {
+                long id = ((Number) row.get("id")).longValue();
+                byte[] bytes = imageService.decodeImage((String) row.get("data"));
+                String key = bytes != null ? imageStore.store(bytes) : null;
+                imageBlobService.acquire(key);
+                jdbcTemplate.update(update, key, id);
+                lastId = id;
+                migrated++;
+            }
+        } while (rows.size() == BATCH_SIZE);
+
+        log.info("Migrated {} images from {}.{} to the image store", migrated, table, legacyColumn);
+    }
+
+    private boolean columnExists(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns WHERE LOWER(table_name) = ? AND LOWER(column_name) = ?",
+                Integer.class, table, column);
+        return count != null && count > 0;
+    }
+}
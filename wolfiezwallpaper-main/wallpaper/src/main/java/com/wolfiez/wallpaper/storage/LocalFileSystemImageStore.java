@@ -0,0 +1,137 @@
+package com.wolfiez.wallpaper.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * Content-addressed {@link ImageStore} backed by the local filesystem.
+ *
+ * Images are written to {@code <root>/ab/cd/abcd...} where the file name is the
+ * SHA-256 of the content. Writes go to a temporary file first and are moved into
+ * place atomically, so readers never observe a partially written image.
+ * Streamed uploads are written to {@code <root>/.incoming} while they are hashed,
+ * since their key is only known once the last byte has been read.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Component
+@ConditionalOnProperty(prefix = "wallpaper.storage", name = "type", havingValue = "local", matchIfMissing = true)
+public class LocalFileSystemImageStore implements ImageStore {
+
+    private static final int COPY_BUFFER_SIZE = 32 * 1024;
+
+    private final Path root;
+    private final Path incoming;
+
+    public LocalFileSystemImageStore(@Value("${wallpaper.storage.local.root:./data/images}") String root) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.incoming = this.root.resolve(".incoming");
+        Files.createDirectories(this.incoming);
+    }
+
+    @Override
+    public String store(byte[] data) throws IOException {
+        String key = ContentHash.sha256Hex(data);
+        Path target = resolve(key);
+        if (Files.exists(target)) {
+            return key;
+        }
+
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), key, ".tmp");
+        try {
+            Files.write(temp, data);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Another request stored the same content concurrently
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return key;
+    }
+
+    @Override
+    public String store(InputStream data) throws IOException {
+        Path temp = Files.createTempFile(incoming, "upload", ".tmp");
+        try {
+            MessageDigest digest = ContentHash.newDigest();
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                int read;
+                while ((read = data.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    output.write(buffer, 0, read);
+                }
+            }
+
+            String key = HexFormat.of().formatHex(digest.digest());
+            Path target = resolve(key);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Another request stored the same content concurrently
+                }
+            }
+            return key;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public byte[] read(String key) throws IOException {
+        return Files.readAllBytes(resolve(key));
+    }
+
+    @Override
+    public Resource load(String key) throws IOException {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            throw new NoSuchFileException(path.toString());
+        }
+        return new FileSystemResource(path);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return ContentHash.isValidKey(key) && Files.exists(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    /**
+     * Resolves the on-disk path for a key.
+     *
+     * @param key SHA-256 hex key
+     * @return Absolute path of the image file
+     * @throws IllegalArgumentException If the key is not a valid content key
+     */
+    Path resolve(String key) {
+        if (!ContentHash.isValidKey(key)) {
+            throw new IllegalArgumentException("Invalid image key: " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+}
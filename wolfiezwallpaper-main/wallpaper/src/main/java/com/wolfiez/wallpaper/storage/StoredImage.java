@@ -0,0 +1,27 @@
+package com.wolfiez.wallpaper.storage;
+
+/**
+ * Result of storing an uploaded image: its store key and the metadata read from its header.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+public final class StoredImage {
+
+    private final String key;
+    private final ImageMetadata metadata;
+
+    public StoredImage(String key, ImageMetadata metadata) {
+        this.key = key;
+        this.metadata = metadata;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public ImageMetadata getMetadata() {
+        return metadata;
+    }
+}
@@ -0,0 +1,130 @@
+package com.wolfiez.wallpaper.view;
+
+import com.wolfiez.wallpaper.DTO.BoardSummary;
+import com.wolfiez.wallpaper.event.BoardDeletedEvent;
+import com.wolfiez.wallpaper.event.BoardSavedEvent;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Renders the board grids of the public boards page and the dashboard through the
+ * {@link FragmentCache}, so unchanged grids are not rendered again.
+ *
+ * The public grid is keyed by the public feed version and shared by every viewer.
+ * A dashboard grid is keyed by its owner and the owner's board version, which is
+ * bumped after any create, update or delete of one of their boards commits.
+ * Those versions are kept in memory by each instance and only see writes committed
+ * through it: with several instances, a dashboard can show boards changed elsewhere
+ * until its entry expires after {@code wallpaper.views.cache.ttl}.
+ * Fragments live in {@code templates/fragments/board-grid.html} and must not depend
+ * on the viewer beyond the variables passed in. They are rendered with URL rewriting
+ * turned off, so the session id of a viewer without a session cookie never ends up
+ * in cached links.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Component
+public class BoardGridRenderer {
+
+    public static final String PUBLIC_GRID = "public-grid";
+    public static final String DASHBOARD_GRID = "dashboard-grid";
+
+    private static final String TEMPLATE = "fragments/board-grid";
+
+    private final ITemplateEngine templateEngine;
+    private final FragmentCache fragmentCache;
+    private final JakartaServletWebApplication application;
+
+    private final Map<Long, Long> dashboardVersions = new ConcurrentHashMap<>();
+
+    public BoardGridRenderer(ITemplateEngine templateEngine, FragmentCache fragmentCache,
+                             ServletContext servletContext) {
+        this.templateEngine = templateEngine;
+        this.fragmentCache = fragmentCache;
+        this.application = JakartaServletWebApplication.buildApplication(servletContext);
+    }
+
+    /**
+     * Renders the first page of the public feed.
+     *
+     * @param feedVersion Feed version read before the page, or negative to skip the cache
+     * @param boards Boards on the page
+     * @return Grid HTML
+     */
+    public String publicGrid(long feedVersion, List<BoardSummary> boards,
+                             HttpServletRequest request, HttpServletResponse response) {
+        return fragmentCache.get(PUBLIC_GRID, "all", feedVersion,
+                () -> render(PUBLIC_GRID, Map.of("boards", boards), request, response));
+    }
+
+    /**
+     * Renders a user's dashboard grid, loading the boards only on a cache miss.
+     *
+     * @param userId Owner of the dashboard
+     * @param boards Loads the user's boards
+     * @return Grid HTML
+     */
+    public String dashboardGrid(Long userId, Supplier<List<BoardSummary>> boards,
+                                HttpServletRequest request, HttpServletResponse response) {
+        long version = dashboardVersions.getOrDefault(userId, 0L);
+        String key = userId + "/" + request.getLocale().toLanguageTag();
+        return fragmentCache.get(DASHBOARD_GRID, key, version,
+                () -> render(DASHBOARD_GRID, Map.of("boards", boards.get(), "userId", userId), request, response));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardSaved(BoardSavedEvent event) {
+        boardsChanged(event.getSummary().getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardDeleted(BoardDeletedEvent event) {
+        boardsChanged(event.getUserId());
+    }
+
+    private void boardsChanged(Long userId) {
+        dashboardVersions.merge(userId, 1L, Long::sum);
+    }
+
+    private String render(String fragment, Map<String, Object> variables,
+                          HttpServletRequest request, HttpServletResponse response) {
+        WebContext context = new WebContext(application.buildExchange(request, new NoUrlRewriting(response)),
+                request.getLocale(), variables);
+        return templateEngine.process(TEMPLATE, Set.of(fragment), context);
+    }
+
+    /**
+     * Leaves URLs as they are instead of appending {@code ;jsessionid=}.
+     */
+    private static final class NoUrlRewriting extends HttpServletResponseWrapper {
+
+        private NoUrlRewriting(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public String encodeURL(String url) {
+            return url;
+        }
+
+        @Override
+        public String encodeRedirectURL(String url) {
+            return url;
+        }
+    }
+}
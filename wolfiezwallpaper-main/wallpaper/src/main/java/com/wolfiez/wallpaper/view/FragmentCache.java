@@ -0,0 +1,149 @@
+package com.wolfiez.wallpaper.view;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * LRU cache of rendered HTML fragments, at most {@code wallpaper.views.cache.max-entries},
+ * each served for at most {@code wallpaper.views.cache.ttl}.
+ *
+ * Each entry remembers the version of the data it was rendered from, and a lookup
+ * only hits when the caller's current version matches, so a change to the data is
+ * enough to stop serving the old HTML. Callers must read the version before loading
+ * the data they render; a render that races with a write is then stored under the
+ * old version and never served. Outdated entries are not removed eagerly; they
+ * age out of the LRU order.
+ *
+ * Versions only change with writes this instance sees, so the TTL bounds how long
+ * an entry can outlive a change made through another instance.
+ *
+ * Statistics are kept per fragment name, including the render time spent on misses
+ * and the render time hits avoided (the cost of rendering the entry they returned).
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@Component
+public class FragmentCache {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    public FragmentCache(@Value("${wallpaper.views.cache.max-entries:1000}") int maxEntries,
+                         @Value("${wallpaper.views.cache.ttl:PT1M}") Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Returns the cached HTML for a fragment, rendering and storing it on a miss.
+     *
+     * @param fragment Fragment name, used for statistics
+     * @param key Identifies the fragment instance, e.g. the owner of a grid
+     * @param version Version of the data the fragment shows; negative to render without caching
+     * @param renderer Loads the data and renders the fragment
+     * @return Rendered HTML
+     */
+    public String get(String fragment, String key, long version, Supplier<String> renderer) {
+        Stats fragmentStats = stats(fragment);
+        Key entryKey = new Key(fragment, key);
+
+        if (version >= 0) {
+            Entry entry;
+            lock.lock();
+            try {
+                entry = entries.get(entryKey);
+            } finally {
+                lock.unlock();
+            }
+            if (entry != null && entry.version == version && System.nanoTime() - entry.createdAt <= ttlNanos) {
+                fragmentStats.hits.increment();
+                fragmentStats.savedNanos.add(entry.renderNanos);
+                return entry.html;
+            }
+        }
+
+        long start = System.nanoTime();
+        String html = renderer.get();
+        long renderNanos = System.nanoTime() - start;
+        fragmentStats.misses.increment();
+        fragmentStats.renderNanos.add(renderNanos);
+
+        if (version >= 0) {
+            put(entryKey, new Entry(html, version, renderNanos, System.nanoTime()));
+        }
+        return html;
+    }
+
+    public long getHits(String fragment) {
+        return stats(fragment).hits.sum();
+    }
+
+    public long getMisses(String fragment) {
+        return stats(fragment).misses.sum();
+    }
+
+    public double getRenderSeconds(String fragment) {
+        return stats(fragment).renderNanos.sum() / 1e9;
+    }
+
+    public double getSavedSeconds(String fragment) {
+        return stats(fragment).savedNanos.sum() / 1e9;
+    }
+
+    public int getEntryCount() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(Key key, Entry entry) {
+        lock.lock();
+        try {
+            Entry previous = entries.get(key);
+            if (previous != null && previous.version > entry.version) {
+                return;
+            }
+            entries.put(key, entry);
+            while (entries.size() > maxEntries) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Stats stats(String fragment) {
+        return stats.computeIfAbsent(fragment, name -> new Stats());
+    }
+
+    private record Key(String fragment, String key) {
+    }
+
+    private record Entry(String html, long version, long renderNanos, long createdAt) {
+    }
+
+    private static final class Stats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder renderNanos = new LongAdder();
+        private final LongAdder savedNanos = new LongAdder();
+    }
+}
@@ -1 +1 @@
-INSERT INTO roles (name) VALUES ('USER');
\ No newline at end of file
+INSERT INTO roles (id, name) VALUES (nextval('roles_seq'), 'USER');
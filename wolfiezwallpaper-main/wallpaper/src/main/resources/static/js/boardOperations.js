@@ -91,7 +91,7 @@ document.addEventListener('DOMContentLoaded', function() {
 
         modalContent.innerHTML = `
             <div class="board-details">
-                <img src="/api/boards/${board.id}/image" 
+                <img src="/api/boards/${board.id}/image?size=medium" 
                      class="img-fluid mb-3" 
                      onerror="this.style.display='none'"
                      alt="Board image">
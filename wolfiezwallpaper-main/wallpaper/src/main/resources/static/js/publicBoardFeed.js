@@ -0,0 +1,113 @@
+// Constantes para configuración
+const FEED_CONFIG = {
+    FEED_ENDPOINT: '/api/boards/public',
+    IMAGE_ENDPOINT: '/api/boards',
+    PAGE_SIZE: 24
+};
+
+// Función para crear la tarjeta de un tablero (misma estructura que public-boards.html)
+function createBoardCard(board) {
+    const col = document.createElement('div');
+    col.className = 'col-12 col-sm-6 col-lg-4 col-xl-3';
+
+    const card = document.createElement('div');
+    card.className = 'card h-100 shadow-sm';
+
+    const wrapper = document.createElement('div');
+    wrapper.className = 'card-img-top-wrapper';
+    if (board.hasImage) {
+        const imageDiv = document.createElement('div');
+        imageDiv.className = 'board-image';
+        const img = document.createElement('img');
+        img.src = `${FEED_CONFIG.IMAGE_ENDPOINT}/${board.id}/image?size=thumb&v=${board.imageVersion}`;
+        img.className = 'card-img-top';
+        img.alt = 'Imagen del tablero';
+        img.loading = 'lazy';
+        imageDiv.appendChild(img);
+        wrapper.appendChild(imageDiv);
+    } else {
+        const placeholder = document.createElement('div');
+        placeholder.className = 'placeholder-image';
+        wrapper.appendChild(placeholder);
+    }
+
+    const body = document.createElement('div');
+    body.className = 'card-body';
+    const title = document.createElement('h5');
+    title.className = 'card-title';
+    title.textContent = board.name;
+    const text = document.createElement('p');
+    text.className = 'card-text';
+    text.textContent = board.description || '';
+    body.appendChild(title);
+    body.appendChild(text);
+
+    card.appendChild(wrapper);
+    card.appendChild(body);
+    col.appendChild(card);
+    return col;
+}
+
+// Función para cargar la siguiente página del feed usando el cursor
+async function loadNextPage(grid, sentinel, observer) {
+    const cursor = sentinel.dataset.nextCursor;
+    if (!cursor || sentinel.dataset.loading === 'true') {
+        return;
+    }
+
+    sentinel.dataset.loading = 'true';
+    sentinel.textContent = 'Cargando...';
+
+    try {
+        const params = new URLSearchParams({ after: cursor, limit: FEED_CONFIG.PAGE_SIZE });
+        const response = await fetch(`${FEED_CONFIG.FEED_ENDPOINT}?${params}`, {
+            headers: { 'Accept': 'application/json' }
+        });
+        if (!response.ok) {
+            throw new Error(`Invalid response: ${response.status}`);
+        }
+
+        const page = await response.json();
+        page.boards.forEach(board => grid.appendChild(createBoardCard(board)));
+
+        if (page.nextCursor) {
+            sentinel.dataset.nextCursor = page.nextCursor;
+            sentinel.textContent = '';
+        } else {
+            delete sentinel.dataset.nextCursor;
+            sentinel.textContent = '';
+            observer.disconnect();
+        }
+    } catch (error) {
+        console.warn('Error loading public boards:', error);
+        sentinel.textContent = 'No se pudieron cargar más tableros';
+        return;
+    } finally {
+        sentinel.dataset.loading = 'false';
+    }
+
+    // Si el marcador sigue visible, el observador no volverá a dispararse
+    if (sentinel.dataset.nextCursor && sentinel.getBoundingClientRect().top < window.innerHeight) {
+        loadNextPage(grid, sentinel, observer);
+    }
+}
+
+// Inicializar el scroll infinito cuando el DOM esté listo
+document.addEventListener('DOMContentLoaded', () => {
+    const grid = document.getElementById('publicBoardsGrid');
+    const sentinel = document.getElementById('feedSentinel');
+    if (!grid || !sentinel || !sentinel.dataset.nextCursor) {
+        return;
+    }
+
+    const observer = new IntersectionObserver(entries => {
+        if (entries.some(entry => entry.isIntersecting)) {
+            loadNextPage(grid, sentinel, observer);
+        }
+    }, {
+        root: null,
+        rootMargin: '400px'
+    });
+
+    observer.observe(sentinel);
+});
@@ -29,11 +29,10 @@ async function loadBoardImage(boardId, imageContainer, retryCount = 0) {
         imageContainer.appendChild(createPlaceholder());
 
         // Intentar cargar la imagen
-        const response = await fetch(`${CONFIG.IMAGE_ENDPOINT}/${boardId}/image`, {
+        const response = await fetch(`${CONFIG.IMAGE_ENDPOINT}/${boardId}/image?size=thumb`, {
             method: 'GET',
             headers: {
-                'Accept': 'image/jpeg, image/png, image/gif',
-                'Cache-Control': 'no-cache'
+                'Accept': 'image/jpeg, image/png, image/gif'
             }
         });
 
@@ -67,6 +66,10 @@ async function loadBoardImage(boardId, imageContainer, retryCount = 0) {
             } else {
                 throw new Error('Empty image blob');
             }
+        } else if (response.status === 404) {
+            // El tablero no tiene imagen: no tiene sentido reintentar
+            imageContainer.innerHTML = '';
+            imageContainer.appendChild(createPlaceholder());
         } else {
             throw new Error(`Invalid response: ${response.status}`);
         }
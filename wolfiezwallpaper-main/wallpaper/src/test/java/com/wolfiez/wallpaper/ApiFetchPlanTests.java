@@ -0,0 +1,138 @@
+package com.wolfiez.wallpaper;
+
+import com.wolfiez.wallpaper.entity.Board;
+import com.wolfiez.wallpaper.entity.Role;
+import com.wolfiez.wallpaper.entity.User;
+import com.wolfiez.wallpaper.repository.BoardRepository;
+import com.wolfiez.wallpaper.repository.RoleRepository;
+import com.wolfiez.wallpaper.repository.UserRepository;
+import com.wolfiez.wallpaper.support.SqlStatementGuard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that API responses are DTOs loaded with a fixed number of queries,
+ * regardless of how many boards and roles a user has.
+ *
+ * Fixtures are committed in a setup transaction, so requests run without a test
+ * transaction keeping entities loaded, and are deleted after each test.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:api-fetch-plan;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "wallpaper.search.type=memory",
+        "wallpaper.storage.local.root=target/test-images"
+})
+@AutoConfigureMockMvc
+@Import(SqlStatementGuard.class)
+@WithMockUser
+class ApiFetchPlanTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Role> createdRoles = new ArrayList<>();
+    private final List<Board> boards = new ArrayList<>();
+    private User user;
+    private Board board;
+
+    @BeforeEach
+    void seed() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Role userRole = findOrCreateRole("USER");
+            Role editorRole = findOrCreateRole("EDITOR");
+
+            user = new User();
+            user.setName("Fetch Plan");
+            user.setEmail("fetch-plan@example.com");
+            user.setPassword("hash");
+            user.setRoles(Set.of(userRole, editorRole));
+            user = userRepository.save(user);
+
+            for (int i = 0; i < 10; i++) {
+                Board created = new Board();
+                created.setName("Board " + i);
+                created.setDescription("Seeded board " + i);
+                created.setUser(user);
+                board = boardRepository.save(created);
+                boards.add(board);
+            }
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            boardRepository.deleteAllInBatch(boards);
+            if (user != null) {
+                userRepository.deleteById(user.getId());
+            }
+            roleRepository.deleteAllInBatch(createdRoles);
+        });
+    }
+
+    @Test
+    void userEndpointsReturnDtosWithoutLazyLoading() throws Exception {
+        mockMvc.perform(get("/api/users/{id}", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.roles.length()").value(2))
+                .andExpect(jsonPath("$.password").doesNotExist())
+                .andExpect(jsonPath("$.boards").doesNotExist());
+
+        mockMvc.perform(get("/api/users/role/{roleName}", "EDITOR"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].roles.length()").value(2));
+    }
+
+    @Test
+    void boardEndpointsReturnDtosWithoutLazyLoading() throws Exception {
+        mockMvc.perform(get("/api/boards/{id}", board.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(user.getId()));
+
+        mockMvc.perform(get("/api/boards/user/{userId}", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(10));
+    }
+
+    /**
+     * Reuses a role the schema seeds, such as USER from import.sql, so only roles created here are deleted.
+     */
+    private Role findOrCreateRole(String name) {
+        return roleRepository.findByName(name).orElseGet(() -> {
+            Role role = roleRepository.save(new Role(null, name, new HashSet<>()));
+            createdRoles.add(role);
+            return role;
+        });
+    }
+}
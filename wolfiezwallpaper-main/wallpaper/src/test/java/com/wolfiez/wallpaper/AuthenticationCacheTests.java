@@ -0,0 +1,109 @@
+package com.wolfiez.wallpaper;
+
+import com.wolfiez.wallpaper.DTO.LoginDTO;
+import com.wolfiez.wallpaper.DTO.UserDto;
+import com.wolfiez.wallpaper.DTO.UserRegistrationDTO;
+import com.wolfiez.wallpaper.entity.User;
+import com.wolfiez.wallpaper.exception.AuthenticationException;
+import com.wolfiez.wallpaper.security.AuthenticationCache;
+import com.wolfiez.wallpaper.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that logins racing a change to the user do not leave the old credentials
+ * in {@link AuthenticationCache}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:authentication-cache;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "wallpaper.search.type=memory",
+        "wallpaper.storage.local.root=target/test-images"
+})
+class AuthenticationCacheTests {
+
+    private static final String OLD_PASSWORD = "old-password";
+    private static final String NEW_PASSWORD = "new-password";
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private AuthenticationCache authenticationCache;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void registerUser() {
+        UserRegistrationDTO registration = new UserRegistrationDTO();
+        registration.setName("Authentication Cache");
+        registration.setEmail("authentication-cache-" + UUID.randomUUID() + "@example.com");
+        registration.setPassword(OLD_PASSWORD);
+        user = userService.registerUser(registration);
+    }
+
+    @Test
+    void loginDuringAPasswordChangeIsDroppedOnCommit() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            UserDto update = new UserDto();
+            update.setName(user.getName());
+            update.setEmail(user.getEmail());
+            userService.updateUser(user.getId(), update, null, NEW_PASSWORD);
+
+            // another request still reads the committed old hash and caches it
+            User loggedIn = CompletableFuture.supplyAsync(() -> userService.authenticateUser(login(OLD_PASSWORD))).join();
+            assertThat(loggedIn.getId()).isEqualTo(user.getId());
+        });
+
+        assertThat(authenticationCache.getVerifiedUser(user.getEmail(), OLD_PASSWORD)).isNull();
+        assertThatThrownBy(() -> userService.authenticateUser(login(OLD_PASSWORD)))
+                .isInstanceOf(AuthenticationException.class);
+        assertThat(userService.authenticateUser(login(NEW_PASSWORD)).getId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    void loginThatReadTheUserBeforeAnInvalidationIsNotCached() {
+        long readGeneration = authenticationCache.generation();
+        // the change commits after the login read the user but before it caches the result
+        authenticationCache.invalidateUser(user.getId());
+        authenticationCache.putVerifiedUser(user.getEmail(), OLD_PASSWORD, user, readGeneration);
+        authenticationCache.putUserByEmail(user.getEmail(), user, readGeneration);
+
+        assertThat(authenticationCache.getVerifiedUser(user.getEmail(), OLD_PASSWORD)).isNull();
+        assertThat(authenticationCache.getUserByEmail(user.getEmail())).isNull();
+    }
+
+    @Test
+    void rolledBackChangeKeepsTheCachedLogin() {
+        userService.authenticateUser(login(OLD_PASSWORD));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userService.removeProfileImage(user.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(authenticationCache.getVerifiedUser(user.getEmail(), OLD_PASSWORD)).isNotNull();
+    }
+
+    private LoginDTO login(String password) {
+        LoginDTO login = new LoginDTO();
+        login.setEmail(user.getEmail());
+        login.setPassword(password);
+        return login;
+    }
+}
@@ -0,0 +1,76 @@
+package com.wolfiez.wallpaper;
+
+import com.wolfiez.wallpaper.DTO.BoardSummary;
+import com.wolfiez.wallpaper.view.BoardGridRenderer;
+import com.wolfiez.wallpaper.view.FragmentCache;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that shared board grids are cached without anything taken from the first viewer's session.
+ */
+class BoardGridRendererTests {
+
+    private static final String SESSION_ID = ";jsessionid=FIRST-VIEWER";
+
+    private final FragmentCache fragmentCache = new FragmentCache(10, Duration.ofMinutes(1));
+    private final BoardGridRenderer renderer = new BoardGridRenderer(templateEngine(), fragmentCache,
+            new MockServletContext());
+
+    @Test
+    void publicGridIsCachedWithoutTheFirstViewersSessionId() {
+        List<BoardSummary> boards = List.of(
+                new BoardSummary(1L, "Board", null, false, LocalDateTime.now(), 1L, true, "abc"));
+
+        String first = renderer.publicGrid(1, boards, new MockHttpServletRequest(), rewritingResponse());
+        String second = renderer.publicGrid(1, boards, new MockHttpServletRequest(), new MockHttpServletResponse());
+
+        assertThat(first).contains("/api/boards/1/image").doesNotContain("jsessionid");
+        assertThat(second).isEqualTo(first);
+        assertThat(fragmentCache.getHits(BoardGridRenderer.PUBLIC_GRID)).isEqualTo(1);
+    }
+
+    @Test
+    void dashboardGridIsCachedWithoutTheSessionId() {
+        List<BoardSummary> boards = List.of(
+                new BoardSummary(2L, "Mine", null, true, LocalDateTime.now(), 7L, true, "def"));
+
+        String grid = renderer.dashboardGrid(7L, () -> boards, new MockHttpServletRequest(), rewritingResponse());
+
+        assertThat(grid).contains("/api/boards/2/image").doesNotContain("jsessionid");
+    }
+
+    /**
+     * @return Response that rewrites URLs as the container does for a viewer without a session cookie
+     */
+    private static HttpServletResponse rewritingResponse() {
+        return new HttpServletResponseWrapper(new MockHttpServletResponse()) {
+            @Override
+            public String encodeURL(String url) {
+                int query = url.indexOf('?');
+                return query < 0 ? url + SESSION_ID : url.substring(0, query) + SESSION_ID + url.substring(query);
+            }
+        };
+    }
+
+    private static SpringTemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+}
@@ -0,0 +1,90 @@
+package com.wolfiez.wallpaper;
+
+import com.wolfiez.wallpaper.DTO.BoardDto;
+import com.wolfiez.wallpaper.DTO.BoardSummary;
+import com.wolfiez.wallpaper.DTO.UserRegistrationDTO;
+import com.wolfiez.wallpaper.entity.Board;
+import com.wolfiez.wallpaper.entity.User;
+import com.wolfiez.wallpaper.service.BoardService;
+import com.wolfiez.wallpaper.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the in-memory board search only reflects committed board changes,
+ * including boards deleted together with their owner.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:board-search;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "wallpaper.search.type=memory",
+        "wallpaper.storage.local.root=target/test-images"
+})
+class BoardSearchIndexTests {
+
+    @Autowired
+    private BoardService boardService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private String word;
+
+    @BeforeEach
+    void registerUser() {
+        UserRegistrationDTO registration = new UserRegistrationDTO();
+        registration.setName("Board Search");
+        registration.setEmail("board-search-" + UUID.randomUUID() + "@example.com");
+        registration.setPassword("password");
+        user = userService.registerUser(registration);
+        // a word no other test's boards contain
+        word = "w" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    @Test
+    void boardsOfADeletedUserLeaveTheIndex() {
+        Long first = createBoard().getId();
+        Long second = createBoard().getId();
+        assertThat(publicMatches()).containsExactlyInAnyOrder(first, second);
+
+        userService.deleteUser(user.getId());
+
+        assertThat(publicMatches()).isEmpty();
+    }
+
+    @Test
+    void rolledBackBoardIsNotIndexed() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            createBoard();
+            status.setRollbackOnly();
+        });
+
+        assertThat(publicMatches()).isEmpty();
+    }
+
+    private Board createBoard() {
+        BoardDto board = new BoardDto();
+        board.setName("Board " + word);
+        board.setDescription("Searchable board");
+        return boardService.createBoard(board, user.getId());
+    }
+
+    private List<Long> publicMatches() {
+        return boardService.searchPublicBoards(word, 0, 10).getBoards().stream().map(BoardSummary::getId).toList();
+    }
+}
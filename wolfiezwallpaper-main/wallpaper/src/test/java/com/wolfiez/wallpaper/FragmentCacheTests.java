@@ -0,0 +1,112 @@
+package com.wolfiez.wallpaper;
+
+import com.wolfiez.wallpaper.view.FragmentCache;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks when {@link FragmentCache} serves a stored fragment and what it counts.
+ */
+class FragmentCacheTests {
+
+    private static final String GRID = "grid";
+
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @Test
+    void differentVersionMisses() {
+        FragmentCache cache = new FragmentCache(10, Duration.ofMinutes(1));
+
+        assertThat(cache.get(GRID, "a", 1, render("v1"))).isEqualTo("v1");
+        assertThat(cache.get(GRID, "a", 1, render("unused"))).isEqualTo("v1");
+        assertThat(cache.get(GRID, "a", 2, render("v2"))).isEqualTo("v2");
+
+        assertThat(renders).hasValue(2);
+        assertThat(cache.getHits(GRID)).isEqualTo(1);
+        assertThat(cache.getMisses(GRID)).isEqualTo(2);
+    }
+
+    @Test
+    void olderRenderDoesNotReplaceNewerEntry() {
+        FragmentCache cache = new FragmentCache(10, Duration.ofMinutes(1));
+
+        cache.get(GRID, "a", 2, render("v2"));
+        // a request that read version 1 before the write finishes rendering afterwards
+        assertThat(cache.get(GRID, "a", 1, render("v1"))).isEqualTo("v1");
+
+        assertThat(cache.get(GRID, "a", 2, render("unused"))).isEqualTo("v2");
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void negativeVersionIsNeverCached() {
+        FragmentCache cache = new FragmentCache(10, Duration.ofMinutes(1));
+
+        cache.get(GRID, "a", -1, render("first"));
+        assertThat(cache.get(GRID, "a", -1, render("second"))).isEqualTo("second");
+
+        assertThat(cache.getEntryCount()).isZero();
+        assertThat(cache.getMisses(GRID)).isEqualTo(2);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedAtMaxEntries() {
+        FragmentCache cache = new FragmentCache(2, Duration.ofMinutes(1));
+
+        cache.get(GRID, "a", 1, render("a"));
+        cache.get(GRID, "b", 1, render("b"));
+        cache.get(GRID, "a", 1, render("unused"));
+        cache.get(GRID, "c", 1, render("c"));
+
+        assertThat(cache.getEntryCount()).isEqualTo(2);
+        assertThat(cache.get(GRID, "a", 1, render("unused"))).isEqualTo("a");
+        assertThat(cache.get(GRID, "c", 1, render("unused"))).isEqualTo("c");
+        assertThat(cache.get(GRID, "b", 1, render("b again"))).isEqualTo("b again");
+        assertThat(renders).hasValue(4);
+    }
+
+    @Test
+    void expiredEntryMisses() throws InterruptedException {
+        FragmentCache cache = new FragmentCache(10, Duration.ofMillis(1));
+
+        cache.get(GRID, "a", 1, render("first"));
+        Thread.sleep(5);
+
+        assertThat(cache.get(GRID, "a", 1, render("second"))).isEqualTo("second");
+        assertThat(cache.getHits(GRID)).isZero();
+    }
+
+    @Test
+    void hitsCountTheRenderTimeTheyAvoided() {
+        FragmentCache cache = new FragmentCache(10, Duration.ofMinutes(1));
+        Supplier<String> slowRender = () -> {
+            long end = System.nanoTime() + Duration.ofMillis(5).toNanos();
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            return "slow";
+        };
+
+        cache.get(GRID, "a", 1, slowRender);
+        cache.get(GRID, "a", 1, slowRender);
+        cache.get(GRID, "a", 1, slowRender);
+
+        assertThat(cache.getMisses(GRID)).isEqualTo(1);
+        assertThat(cache.getHits(GRID)).isEqualTo(2);
+        assertThat(cache.getRenderSeconds(GRID)).isGreaterThanOrEqualTo(0.005);
+        assertThat(cache.getSavedSeconds(GRID)).isEqualTo(2 * cache.getRenderSeconds(GRID));
+        assertThat(cache.getHits("other")).isZero();
+    }
+
+    private Supplier<String> render(String html) {
+        return () -> {
+            renders.incrementAndGet();
+            return html;
+        };
+    }
+}
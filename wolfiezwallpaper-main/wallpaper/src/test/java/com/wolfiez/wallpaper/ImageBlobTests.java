@@ -0,0 +1,182 @@
+package com.wolfiez.wallpaper;
+
+import com.wolfiez.wallpaper.entity.Board;
+import com.wolfiez.wallpaper.entity.ImageBlob;
+import com.wolfiez.wallpaper.entity.User;
+import com.wolfiez.wallpaper.repository.BoardRepository;
+import com.wolfiez.wallpaper.repository.ImageBlobRepository;
+import com.wolfiez.wallpaper.repository.UserRepository;
+import com.wolfiez.wallpaper.service.BoardService;
+import com.wolfiez.wallpaper.service.ImageBlobService;
+import com.wolfiez.wallpaper.storage.ImageStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks image reference counting on H2 with the local image store: shared images
+ * survive until their last reference goes, and bytes are only deleted after commit.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:image-blobs;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "wallpaper.search.type=memory",
+        "wallpaper.storage.local.root=target/test-images"
+})
+class ImageBlobTests {
+
+    private static final Duration DELETE_TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    private ImageBlobService imageBlobService;
+    @Autowired
+    private BoardService boardService;
+    @Autowired
+    private ImageStore imageStore;
+    @Autowired
+    private ImageBlobRepository imageBlobRepository;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void seedUser() {
+        User created = new User();
+        created.setName("Image Blobs");
+        created.setEmail("image-blobs-" + UUID.randomUUID() + "@example.com");
+        created.setPassword("hash");
+        user = userRepository.save(created);
+    }
+
+    @Test
+    void imageSharedByTwoBoardsOutlivesTheFirstDelete() throws Exception {
+        String key = storeImage();
+        Board first = boardWithImage(key);
+        Board second = boardWithImage(key);
+        assertThat(refCount(key)).isEqualTo(2);
+
+        boardService.deleteBoard(first.getId());
+        assertThat(refCount(key)).isEqualTo(1);
+        assertThat(imageStore.exists(key)).isTrue();
+
+        boardService.deleteBoard(second.getId());
+        assertThat(imageBlobRepository.findById(key)).isEmpty();
+        assertThat(awaitDeleted(key)).isTrue();
+    }
+
+    @Test
+    void lastReleaseDeletesTheFileOnlyAfterCommit() throws Exception {
+        String key = storeImage();
+        imageBlobService.acquire(key);
+
+        inTransaction(() -> {
+            imageBlobService.release(key);
+            assertThat(imageStore.exists(key)).isTrue();
+        });
+
+        assertThat(awaitDeleted(key)).isTrue();
+    }
+
+    @Test
+    void rolledBackReleaseKeepsTheFile() throws IOException {
+        String key = storeImage();
+        imageBlobService.acquire(key);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            imageBlobService.release(key);
+            status.setRollbackOnly();
+        });
+
+        // no release event is published, and the remaining reference blocks any deletion
+        assertThat(refCount(key)).isEqualTo(1);
+        assertThat(imageStore.exists(key)).isTrue();
+    }
+
+    @Test
+    void renditionsAreAttachedOnlyOnce() throws IOException {
+        String key = storeImage();
+        String thumb = storeImage();
+        String medium = storeImage();
+        Board board = boardWithImage(key);
+
+        assertThat(boardService.attachRenditions(board.getId(), key, thumb, medium)).isTrue();
+        assertThat(refCount(thumb)).isEqualTo(1);
+        assertThat(refCount(medium)).isEqualTo(1);
+
+        String otherThumb = storeImage();
+        String otherMedium = storeImage();
+        assertThat(boardService.attachRenditions(board.getId(), key, otherThumb, otherMedium)).isFalse();
+        assertThat(boardService.attachRenditions(board.getId(), "stale-original", otherThumb, otherMedium)).isFalse();
+
+        Board stored = boardRepository.findById(board.getId()).orElseThrow();
+        assertThat(stored.getThumbImageKey()).isEqualTo(thumb);
+        assertThat(stored.getMediumImageKey()).isEqualTo(medium);
+        assertThat(imageBlobRepository.findById(otherThumb)).isEmpty();
+        assertThat(refCount(thumb)).isEqualTo(1);
+    }
+
+    /**
+     * @return Key of a newly stored image with unique content
+     */
+    private String storeImage() throws IOException {
+        return imageStore.store(UUID.randomUUID().toString().getBytes());
+    }
+
+    private Board boardWithImage(String key) {
+        return inTransaction(() -> {
+            Board board = new Board();
+            board.setName("Board");
+            board.setUser(user);
+            board.setImageKey(key);
+            imageBlobService.acquire(key);
+            return boardRepository.save(board);
+        });
+    }
+
+    private int refCount(String key) {
+        return imageBlobRepository.findById(key).map(ImageBlob::getRefCount).orElse(0);
+    }
+
+    /**
+     * Waits for the background deletion of an image.
+     *
+     * @return true if the file was deleted within the timeout
+     */
+    private boolean awaitDeleted(String key) throws InterruptedException {
+        long deadline = System.nanoTime() + DELETE_TIMEOUT.toNanos();
+        while (imageStore.exists(key)) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(20);
+        }
+        return true;
+    }
+
+    private void inTransaction(Runnable work) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> work.run());
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+}
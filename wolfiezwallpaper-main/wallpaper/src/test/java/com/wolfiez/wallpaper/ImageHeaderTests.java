@@ -0,0 +1,285 @@
+package com.wolfiez.wallpaper;
+
+import com.wolfiez.wallpaper.metrics.ImageMetrics;
+import com.wolfiez.wallpaper.service.ImageService;
+import com.wolfiez.wallpaper.storage.ImageCache;
+import com.wolfiez.wallpaper.storage.ImageFormat;
+import com.wolfiez.wallpaper.storage.ImageHeaderParser;
+import com.wolfiez.wallpaper.storage.ImageMetadata;
+import com.wolfiez.wallpaper.storage.ImageStore;
+import com.wolfiez.wallpaper.storage.StoredImage;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks {@link ImageHeaderParser} on real and hand-built JPEG and PNG headers, the
+ * dimension limits {@link ImageService#storeImage} applies to what it reads, and how
+ * served images are identified.
+ */
+class ImageHeaderTests {
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    @Test
+    void readsPngWrittenByImageIo() throws IOException {
+        ImageMetadata metadata = parse(encode(new BufferedImage(40, 30, BufferedImage.TYPE_INT_ARGB), "png"));
+
+        assertThat(metadata.getFormat()).isEqualTo(ImageFormat.PNG);
+        assertThat(metadata.getWidth()).isEqualTo(40);
+        assertThat(metadata.getHeight()).isEqualTo(30);
+        assertThat(metadata.getColorType()).isEqualTo(ImageMetadata.ColorType.RGBA);
+        assertThat(metadata.getBitDepth()).isEqualTo(8);
+    }
+
+    @Test
+    void readsBaselineJpeg() throws IOException {
+        byte[] jpeg = encode(new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB), "jpg");
+        ImageMetadata metadata = parse(jpeg);
+
+        assertThat(metadata.getFormat()).isEqualTo(ImageFormat.JPEG);
+        assertThat(metadata.getWidth()).isEqualTo(64);
+        assertThat(metadata.getHeight()).isEqualTo(48);
+        assertThat(metadata.getColorType()).isEqualTo(ImageMetadata.ColorType.RGB);
+        assertThat(indexOf(jpeg, 0xC0)).isPositive();
+    }
+
+    @Test
+    void readsProgressiveJpeg() throws IOException {
+        byte[] jpeg = encodeProgressiveJpeg(new BufferedImage(33, 17, BufferedImage.TYPE_BYTE_GRAY));
+        ImageMetadata metadata = parse(jpeg);
+
+        assertThat(indexOf(jpeg, 0xC2)).isPositive();
+        assertThat(metadata.getWidth()).isEqualTo(33);
+        assertThat(metadata.getHeight()).isEqualTo(17);
+        assertThat(metadata.getColorType()).isEqualTo(ImageMetadata.ColorType.GRAYSCALE);
+    }
+
+    @Test
+    void skipsAppSegmentsAndFillBytesBeforeTheFrame() throws IOException {
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        jpeg.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xD8});
+        segment(jpeg, 0xE0, "JFIF\0".getBytes());
+        segment(jpeg, 0xE1, new byte[300]);
+        segment(jpeg, 0xFE, "comment".getBytes());
+        jpeg.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF});
+        jpeg.writeBytes(startOfFrame(0xC0, 1200, 800, 3));
+
+        ImageMetadata metadata = parse(jpeg.toByteArray());
+
+        assertThat(metadata.getWidth()).isEqualTo(1200);
+        assertThat(metadata.getHeight()).isEqualTo(800);
+    }
+
+    @Test
+    void unknownSignatureIsNotAnImage() throws IOException {
+        byte[] png = png(10, 10);
+        png[1] = 'X';
+
+        assertThat(parse(png)).isNull();
+        assertThat(parse("GIF89a..".getBytes())).isNull();
+        assertThat(parse(new byte[0])).isNull();
+    }
+
+    @Test
+    void corruptedPngHeaderFailsItsChecksum() {
+        byte[] png = png(10, 10);
+        // flip a bit in the width, inside the region the CRC covers
+        png[18] ^= 0x01;
+
+        assertThatThrownBy(() -> parse(png)).isInstanceOf(IOException.class).hasMessageContaining("checksum");
+    }
+
+    @Test
+    void truncatedHeadersAreReportedAsEndOfStream() {
+        byte[] png = png(10, 10);
+        byte[] jpeg = jpeg(100, 100);
+
+        // inside IHDR, and just before its CRC
+        assertThatThrownBy(() -> parse(Arrays.copyOf(png, 20))).isInstanceOf(EOFException.class);
+        assertThatThrownBy(() -> parse(Arrays.copyOf(png, png.length - 2))).isInstanceOf(EOFException.class);
+        // inside the APP0 segment, and inside the frame height
+        assertThatThrownBy(() -> parse(Arrays.copyOf(jpeg, 8))).isInstanceOf(EOFException.class);
+        assertThatThrownBy(() -> parse(Arrays.copyOf(jpeg, jpeg.length - 13))).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void zeroDimensionsAreRejected() {
+        assertThatThrownBy(() -> parse(png(0, 10))).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> parse(png(10, 0))).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> parse(jpeg(0, 10))).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> parse(jpeg(10, 0))).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void uploadsOverTheDimensionLimitsAreRejectedBeforeStoring() {
+        ImageStore imageStore = mock(ImageStore.class);
+        ImageService imageService = new ImageService(imageStore, mock(ImageCache.class), mock(ImageMetrics.class));
+        int side = ImageService.MAX_IMAGE_DIMENSION;
+
+        assertThatThrownBy(() -> imageService.storeImage(upload(png(side + 1, 1))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> imageService.storeImage(upload(jpeg(1, side + 1))))
+                .isInstanceOf(IllegalArgumentException.class);
+        // each side is allowed, the pixel count is not
+        int square = (int) Math.sqrt(ImageService.MAX_IMAGE_PIXELS) + 1;
+        assertThatThrownBy(() -> imageService.storeImage(upload(png(square, square))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> imageService.storeImage(upload(png(0, 10))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(imageStore);
+    }
+
+    @Test
+    void uploadAtTheLimitsIsStored() throws IOException {
+        ImageStore imageStore = mock(ImageStore.class);
+        when(imageStore.store(any(InputStream.class))).thenReturn("key");
+        ImageService imageService = new ImageService(imageStore, mock(ImageCache.class), mock(ImageMetrics.class));
+        int width = ImageService.MAX_IMAGE_DIMENSION;
+        int height = (int) (ImageService.MAX_IMAGE_PIXELS / width);
+
+        StoredImage stored = imageService.storeImage(upload(png(width, height)));
+
+        assertThat(stored.getMetadata().getPixelCount()).isEqualTo(ImageService.MAX_IMAGE_PIXELS);
+    }
+
+    @Test
+    void uploadIsOpenedOnceAndStoredWhole() throws IOException {
+        byte[] jpeg = encode(new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB), "jpg");
+        AtomicInteger opens = new AtomicInteger();
+        MockMultipartFile upload = new MockMultipartFile("image", "image", null, jpeg) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                opens.incrementAndGet();
+                return super.getInputStream();
+            }
+        };
+        ImageStore imageStore = mock(ImageStore.class);
+        ByteArrayOutputStream stored = new ByteArrayOutputStream();
+        when(imageStore.store(any(InputStream.class))).thenAnswer(invocation -> {
+            invocation.<InputStream>getArgument(0).transferTo(stored);
+            return "key";
+        });
+        ImageService imageService = new ImageService(imageStore, mock(ImageCache.class), mock(ImageMetrics.class));
+
+        StoredImage image = imageService.storeImage(upload);
+
+        assertThat(opens).hasValue(1);
+        assertThat(stored.toByteArray()).isEqualTo(jpeg);
+        assertThat(image.getMetadata().getWidth()).isEqualTo(64);
+    }
+
+    @Test
+    void servedImagesAreIdentifiedByTheirHeader() {
+        ImageService imageService = new ImageService(mock(ImageStore.class), mock(ImageCache.class), mock(ImageMetrics.class));
+
+        assertThat(imageService.detectFormat(new ByteArrayResource(png(10, 10)))).isEqualTo(ImageFormat.PNG);
+        assertThat(imageService.detectFormat(new ByteArrayResource(jpeg(10, 10)))).isEqualTo(ImageFormat.JPEG);
+        assertThat(imageService.detectFormat(new ByteArrayResource("GIF89a..".getBytes()))).isNull();
+    }
+
+    private static ImageMetadata parse(byte[] bytes) throws IOException {
+        return ImageHeaderParser.parse(new ByteArrayInputStream(bytes));
+    }
+
+    private static MockMultipartFile upload(byte[] bytes) {
+        return new MockMultipartFile("image", "image", null, bytes);
+    }
+
+    /**
+     * @return PNG signature and an RGB IHDR chunk with a valid CRC
+     */
+    private static byte[] png(int width, int height) {
+        ByteBuffer chunk = ByteBuffer.allocate(17)
+                .putInt(0x49484452).putInt(width).putInt(height)
+                .put((byte) 8).put((byte) 2).put((byte) 0).put((byte) 0).put((byte) 0);
+        CRC32 crc = new CRC32();
+        crc.update(chunk.array());
+        return ByteBuffer.allocate(PNG_SIGNATURE.length + 4 + 17 + 4)
+                .put(PNG_SIGNATURE).putInt(13).put(chunk.array()).putInt((int) crc.getValue())
+                .array();
+    }
+
+    /**
+     * @return SOI, an APP0 segment and a baseline frame header
+     */
+    private static byte[] jpeg(int width, int height) {
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        jpeg.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xD8});
+        segment(jpeg, 0xE0, "JFIF\0".getBytes());
+        jpeg.writeBytes(startOfFrame(0xC0, width, height, 3));
+        return jpeg.toByteArray();
+    }
+
+    private static void segment(ByteArrayOutputStream out, int marker, byte[] payload) {
+        out.writeBytes(ByteBuffer.allocate(4 + payload.length)
+                .put((byte) 0xFF).put((byte) marker).putShort((short) (payload.length + 2)).put(payload)
+                .array());
+    }
+
+    private static byte[] startOfFrame(int marker, int width, int height, int components) {
+        ByteBuffer frame = ByteBuffer.allocate(10 + 3 * components)
+                .put((byte) 0xFF).put((byte) marker).putShort((short) (8 + 3 * components))
+                .put((byte) 8).putShort((short) height).putShort((short) width).put((byte) components);
+        for (int i = 1; i <= components; i++) {
+            frame.put((byte) i).put((byte) 0x11).put((byte) 0);
+        }
+        return frame.array();
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private static byte[] encodeProgressiveJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @return Offset of the first {@code FF marker} pair, or -1
+     */
+    private static int indexOf(byte[] jpeg, int marker) {
+        for (int i = 0; i + 1 < jpeg.length; i++) {
+            if (jpeg[i] == (byte) 0xFF && jpeg[i + 1] == (byte) marker) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,93 @@
+package com.wolfiez.wallpaper;
+
+import com.wolfiez.wallpaper.DTO.ImageReference;
+import com.wolfiez.wallpaper.controller.BoardController;
+import com.wolfiez.wallpaper.controller.UserController;
+import com.wolfiez.wallpaper.exception.BoardNotFoundException;
+import com.wolfiez.wallpaper.exception.ImageProcessingException;
+import com.wolfiez.wallpaper.exception.UserNotFoundException;
+import com.wolfiez.wallpaper.metrics.ImageMetrics;
+import com.wolfiez.wallpaper.service.BoardService;
+import com.wolfiez.wallpaper.service.ImageService;
+import com.wolfiez.wallpaper.service.PublicFeedService;
+import com.wolfiez.wallpaper.service.UserService;
+import com.wolfiez.wallpaper.storage.ImageCache;
+import com.wolfiez.wallpaper.storage.ImageRendition;
+import com.wolfiez.wallpaper.storage.ImageStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that image endpoints answer 404 only for missing boards, users and images,
+ * and leave every other failure to the error handler.
+ */
+class ImageNotFoundTests {
+
+    private static final String KEY = "a".repeat(64);
+
+    private final ImageStore imageStore = mock(ImageStore.class);
+    private final ImageService imageService = new ImageService(imageStore, mock(ImageCache.class), mock(ImageMetrics.class));
+    private final BoardService boardService = mock(BoardService.class);
+    private final UserService userService = mock(UserService.class);
+    private final BoardController boardController = new BoardController(boardService, imageService,
+            mock(ImageMetrics.class), mock(PublicFeedService.class));
+    private final UserController userController = new UserController(userService, imageService, mock(ImageMetrics.class));
+
+    @Test
+    void missingBoardOrUserIsNotFound() {
+        when(boardService.getBoardImage(1L, ImageRendition.FULL)).thenThrow(new BoardNotFoundException("Board not found"));
+        when(userService.getProfileImage(1L)).thenThrow(new UserNotFoundException("User not found"));
+        doThrow(new BoardNotFoundException("Board not found")).when(boardService).removeBoardImage(1L);
+        doThrow(new UserNotFoundException("User not found")).when(userService).removeProfileImage(1L);
+
+        assertThat(boardController.getBoardImage(1L, "full", null, request()).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(userController.getProfileImage(1L, null, request()).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(boardController.deleteBoardImage(1L).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(userController.deleteProfileImage(1L).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void imageMissingFromTheStoreIsNotFound() throws IOException {
+        when(boardService.getBoardImage(1L, ImageRendition.FULL)).thenReturn(reference());
+        when(imageStore.load(KEY)).thenThrow(new NoSuchFileException(KEY));
+
+        assertThat(boardController.getBoardImage(1L, "full", null, request()).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void storeFailureIsNotReportedAsNotFound() throws IOException {
+        when(boardService.getBoardImage(1L, ImageRendition.FULL)).thenReturn(reference());
+        when(userService.getProfileImage(1L)).thenReturn(reference());
+        when(imageStore.load(KEY)).thenThrow(new IOException("disk error"));
+        doThrow(new ImageProcessingException("Image was removed while being stored, please retry"))
+                .when(boardService).removeBoardImage(1L);
+
+        assertThatThrownBy(() -> boardController.getBoardImage(1L, "full", null, request()))
+                .isInstanceOf(ImageProcessingException.class);
+        assertThatThrownBy(() -> userController.getProfileImage(1L, null, request()))
+                .isInstanceOf(ImageProcessingException.class);
+        assertThatThrownBy(() -> boardController.deleteBoardImage(1L))
+                .isInstanceOf(ImageProcessingException.class);
+    }
+
+    private static ImageReference reference() {
+        return ImageReference.of(KEY, KEY, true, LocalDateTime.now());
+    }
+
+    private static WebRequest request() {
+        return new ServletWebRequest(new MockHttpServletRequest());
+    }
+}
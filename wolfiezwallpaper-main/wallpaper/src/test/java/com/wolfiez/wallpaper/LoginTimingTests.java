@@ -0,0 +1,93 @@
+package com.wolfiez.wallpaper;
+
+import com.wolfiez.wallpaper.DTO.UserRegistrationDTO;
+import com.wolfiez.wallpaper.repository.UserRepository;
+import com.wolfiez.wallpaper.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that form and API logins are both timed as {@code wallpaper.auth.login}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:login-timing;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "wallpaper.search.type=memory",
+        "wallpaper.storage.local.root=target/test-images"
+})
+@AutoConfigureMockMvc
+class LoginTimingTests {
+
+    private static final String EMAIL = "login-timing@example.com";
+    private static final String PASSWORD = "correct-password";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void seedUser() {
+        if (userRepository.findByEmail(EMAIL).isEmpty()) {
+            UserRegistrationDTO registration = new UserRegistrationDTO();
+            registration.setName("Login Timing");
+            registration.setEmail(EMAIL);
+            registration.setPassword(PASSWORD);
+            userService.registerUser(registration);
+        }
+    }
+
+    @Test
+    void formLoginIsTimedWithItsOutcome() throws Exception {
+        long successes = logins("form", "success");
+        long failures = logins("form", "failure");
+
+        mockMvc.perform(formLogin("/login").user(EMAIL).password(PASSWORD))
+                .andExpect(redirectedUrl("/dashboard"));
+        mockMvc.perform(formLogin("/login").user(EMAIL).password("wrong-password"))
+                .andExpect(redirectedUrl("/login?error=true"));
+
+        assertThat(logins("form", "success") - successes).isEqualTo(1);
+        assertThat(logins("form", "failure") - failures).isEqualTo(1);
+    }
+
+    @Test
+    void apiLoginIsTimedUnderTheSameName() throws Exception {
+        long failures = logins("api", "failure");
+        long forms = logins("form", "success") + logins("form", "failure");
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + EMAIL + "\",\"password\":\"wrong-password\"}"))
+                .andExpect(status().isUnauthorized());
+
+        assertThat(logins("api", "failure") - failures).isEqualTo(1);
+        assertThat(logins("form", "success") + logins("form", "failure")).isEqualTo(forms);
+    }
+
+    private long logins(String method, String outcome) {
+        Timer timer = meterRegistry.find("wallpaper.auth.login").tags("method", method, "outcome", outcome).timer();
+        return timer != null ? timer.count() : 0;
+    }
+}
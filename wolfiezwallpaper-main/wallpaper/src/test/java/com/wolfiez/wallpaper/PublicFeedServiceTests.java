@@ -0,0 +1,198 @@
+package com.wolfiez.wallpaper;
+
+import com.wolfiez.wallpaper.DTO.BoardCursor;
+import com.wolfiez.wallpaper.DTO.BoardSummary;
+import com.wolfiez.wallpaper.DTO.PublicBoardFeed;
+import com.wolfiez.wallpaper.event.BoardDeletedEvent;
+import com.wolfiez.wallpaper.event.BoardSavedEvent;
+import com.wolfiez.wallpaper.repository.BoardRepository;
+import com.wolfiez.wallpaper.service.BoardService;
+import com.wolfiez.wallpaper.service.PublicFeedService;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks the in-memory public feed against a mocked repository: ordering, updates
+ * from board events, and when pages fall back to {@link BoardService#getPublicFeed}.
+ */
+class PublicFeedServiceTests {
+
+    private static final int CAPACITY = BoardService.MAX_FEED_LIMIT;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final BoardService boardService = mock(BoardService.class);
+    private final PublicFeedService feed = new PublicFeedService(boardRepository, boardService, CAPACITY);
+
+    @Test
+    void boardsCreatedAtTheSameTimeAreOrderedByIdDescending() {
+        load(board(7, NOW), board(5, NOW), board(3, NOW.minusMinutes(1)));
+
+        feed.onBoardSaved(saved(board(6, NOW)));
+        feed.onBoardSaved(saved(board(9, NOW)));
+        feed.onBoardSaved(saved(board(4, NOW)));
+
+        assertThat(ids(feed.getPublicFeed(null, 10))).containsExactly(9L, 7L, 6L, 5L, 4L, 3L);
+    }
+
+    @Test
+    void boardMadePrivateIsRemoved() {
+        load(board(2, NOW), board(1, NOW.minusMinutes(1)));
+
+        BoardSummary madePrivate = board(2, NOW);
+        madePrivate.setPrivate(true);
+        feed.onBoardSaved(saved(madePrivate));
+
+        assertThat(ids(feed.getPublicFeed(null, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void deletedBoardIsRemoved() {
+        load(board(2, NOW), board(1, NOW.minusMinutes(1)));
+
+        feed.onBoardDeleted(new BoardDeletedEvent(2L, 1L));
+
+        assertThat(ids(feed.getPublicFeed(null, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void boardOlderThanAnIncompleteWindowIsIgnored() {
+        load(boards(CAPACITY + 1));
+        long version = feed.getVersion();
+
+        feed.onBoardSaved(saved(board(0, NOW.minusYears(1))));
+
+        assertThat(feed.getVersion()).isEqualTo(version);
+        assertThat(ids(feed.getPublicFeed(null, CAPACITY))).doesNotContain(0L);
+    }
+
+    @Test
+    void evictionAtCapacityMarksTheWindowIncomplete() {
+        List<BoardSummary> boards = boards(CAPACITY);
+        load(boards);
+        assertThat(feed.getPublicFeed(null, CAPACITY).getNextCursor()).isNull();
+
+        feed.onBoardSaved(saved(board(CAPACITY + 1, NOW.plusMinutes(1))));
+
+        PublicBoardFeed first = feed.getPublicFeed(null, CAPACITY);
+        assertThat(first.getBoards()).hasSize(CAPACITY);
+        assertThat(first.getBoards().get(CAPACITY - 1).getId()).isEqualTo(2L);
+        assertThat(first.getNextCursor()).isNotNull();
+
+        // the evicted board is only in the database now
+        feed.getPublicFeed(first.getNextCursor(), 10);
+        verify(boardService).getPublicFeed(first.getNextCursor(), 10);
+    }
+
+    @Test
+    void cursorPastTheWindowFallsBackToTheDatabase() {
+        List<BoardSummary> boards = boards(CAPACITY + 1);
+        load(boards);
+        String after = BoardCursor.of(boards.get(CAPACITY - 1)).encode();
+        PublicBoardFeed fromDatabase = new PublicBoardFeed(List.of(boards.get(CAPACITY)), null);
+        when(boardService.getPublicFeed(after, 10)).thenReturn(fromDatabase);
+
+        assertThat(feed.getPublicFeed(after, 10)).isSameAs(fromDatabase);
+    }
+
+    @Test
+    void pageInsideAnIncompleteWindowIsServedFromMemory() {
+        List<BoardSummary> boards = boards(CAPACITY + 1);
+        load(boards);
+
+        PublicBoardFeed page = feed.getPublicFeed(BoardCursor.of(boards.get(9)).encode(), 10);
+
+        assertThat(ids(page)).containsExactly(91L, 90L, 89L, 88L, 87L, 86L, 85L, 84L, 83L, 82L);
+        assertThat(page.getNextCursor()).isEqualTo(BoardCursor.of(boards.get(19)).encode());
+        verifyNoInteractions(boardService);
+    }
+
+    @Test
+    void emptyWindowHasNoNextPage() {
+        load();
+
+        PublicBoardFeed page = feed.getPublicFeed(null, 10);
+
+        assertThat(page.getBoards()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        verifyNoInteractions(boardService);
+    }
+
+    @Test
+    void lastPageOfACompleteWindowHasNoNextPage() {
+        load(board(3, NOW), board(2, NOW), board(1, NOW));
+
+        PublicBoardFeed first = feed.getPublicFeed(null, 2);
+        assertThat(ids(first)).containsExactly(3L, 2L);
+        PublicBoardFeed last = feed.getPublicFeed(first.getNextCursor(), 2);
+
+        assertThat(ids(last)).containsExactly(1L);
+        assertThat(last.getNextCursor()).isNull();
+        verifyNoInteractions(boardService);
+    }
+
+    @Test
+    void pagesComeFromTheDatabaseUntilTheWindowIsLoaded() {
+        feed.getPublicFeed(null, 10);
+
+        verify(boardService).getPublicFeed(null, 10);
+        assertThat(feed.getVersion()).isEqualTo(-1);
+    }
+
+    @Test
+    void changesCommittedWhileLoadingAreReplayed() {
+        BoardSummary deleted = board(2, NOW.minusMinutes(1));
+        when(boardRepository.findPublicFeed(any())).thenAnswer(invocation -> {
+            // committed after the query read its snapshot
+            feed.onBoardSaved(saved(board(3, NOW)));
+            feed.onBoardDeleted(new BoardDeletedEvent(deleted.getId(), 1L));
+            return List.of(deleted, board(1, NOW.minusMinutes(2)));
+        });
+
+        feed.rebuild();
+
+        assertThat(ids(feed.getPublicFeed(null, 10))).containsExactly(3L, 1L);
+    }
+
+    private void load(BoardSummary... boards) {
+        load(List.of(boards));
+    }
+
+    private void load(List<BoardSummary> boards) {
+        when(boardRepository.findPublicFeed(any())).thenReturn(boards);
+        feed.rebuild();
+    }
+
+    /**
+     * @return Boards with ids {@code count} down to 1, newest first
+     */
+    private static List<BoardSummary> boards(int count) {
+        List<BoardSummary> boards = new ArrayList<>();
+        for (int id = count; id >= 1; id--) {
+            boards.add(board(id, NOW.minusMinutes(count - id)));
+        }
+        return boards;
+    }
+
+    private static BoardSummary board(long id, LocalDateTime createdAt) {
+        return new BoardSummary(id, "Board " + id, null, false, createdAt, 1L, false, null);
+    }
+
+    private static BoardSavedEvent saved(BoardSummary summary) {
+        return new BoardSavedEvent(summary);
+    }
+
+    private static List<Long> ids(PublicBoardFeed page) {
+        return page.getBoards().stream().map(BoardSummary::getId).toList();
+    }
+}
@@ -0,0 +1,107 @@
+package com.wolfiez.wallpaper;
+
+import com.wolfiez.wallpaper.datasource.ReplicaSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks read/write routing with two in-memory H2 databases standing in for the
+ * primary and a replica. Each transaction reports which database served it.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "wallpaper.datasource.replicas[0].url=" + ReadReplicaRoutingTests.REPLICA_URL,
+        "wallpaper.datasource.replicas[0].username=sa",
+        "wallpaper.datasource.replicas[0].password=",
+        "wallpaper.datasource.lag-query=SELECT COALESCE(MAX(lag_seconds), 0) FROM replica_lag",
+        "wallpaper.datasource.lag-check-interval=PT1H",
+        "wallpaper.search.type=memory",
+        "wallpaper.storage.local.root=target/test-images"
+})
+class ReadReplicaRoutingTests {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;"
+            + "INIT=CREATE TABLE IF NOT EXISTS replica_lag (lag_seconds DOUBLE PRECISION)";
+
+    private static final String SERVICE_READ = "com.wolfiez.wallpaper.service.BoardService.getBoard";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ReplicaSet replicaSet;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @BeforeEach
+    void replicaInSync() {
+        replica.update("DELETE FROM replica_lag");
+        replicaSet.checkLag();
+    }
+
+    @AfterEach
+    void clearUser() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyServiceTransactionsUseTheReplica() {
+        assertThat(databaseFor(SERVICE_READ, true)).isEqualToIgnoringCase("replica");
+        assertThat(databaseFor(SERVICE_READ, false)).isEqualToIgnoringCase("primary");
+    }
+
+    @Test
+    void readOnlyTransactionsOutsideTheServicesStayOnThePrimary() {
+        assertThat(databaseFor("org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById", true))
+                .isEqualToIgnoringCase("primary");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToThePrimary() {
+        replica.update("INSERT INTO replica_lag (lag_seconds) VALUES (10)");
+        replicaSet.checkLag();
+
+        assertThat(databaseFor(SERVICE_READ, true)).isEqualToIgnoringCase("primary");
+    }
+
+    @Test
+    void userWhoJustWroteReadsFromThePrimary() {
+        signInAs("writer@example.com");
+        databaseFor("com.wolfiez.wallpaper.service.BoardService.updateBoard", false);
+        assertThat(databaseFor(SERVICE_READ, true)).isEqualToIgnoringCase("primary");
+
+        signInAs("reader@example.com");
+        assertThat(databaseFor(SERVICE_READ, true)).isEqualToIgnoringCase("replica");
+    }
+
+    private String databaseFor(String transactionName, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setName(transactionName);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static void signInAs(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
@@ -0,0 +1,101 @@
+package com.wolfiez.wallpaper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wolfiez.wallpaper.DTO.UserDto;
+import com.wolfiez.wallpaper.DTO.UserRegistrationDTO;
+import com.wolfiez.wallpaper.entity.User;
+import com.wolfiez.wallpaper.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that refresh tokens issued before a password change can no longer be exchanged.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:refresh-token;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "wallpaper.search.type=memory",
+        "wallpaper.storage.local.root=target/test-images"
+})
+@AutoConfigureMockMvc
+class RefreshTokenTests {
+
+    private static final String OLD_PASSWORD = "old-password";
+    private static final String NEW_PASSWORD = "new-password";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+
+    @BeforeEach
+    void registerUser() {
+        UserRegistrationDTO registration = new UserRegistrationDTO();
+        registration.setName("Refresh Token");
+        registration.setEmail("refresh-token-" + UUID.randomUUID() + "@example.com");
+        registration.setPassword(OLD_PASSWORD);
+        user = userService.registerUser(registration);
+    }
+
+    @Test
+    void refreshTokenCanBeExchangedWhileThePasswordIsUnchanged() throws Exception {
+        String refreshToken = login(OLD_PASSWORD);
+
+        String next = refreshTokenOf(refresh(refreshToken).andExpect(status().isOk()));
+        refresh(next).andExpect(status().isOk());
+    }
+
+    @Test
+    void refreshTokenIssuedBeforeAPasswordChangeIsRejected() throws Exception {
+        String oldToken = login(OLD_PASSWORD);
+        // a token obtained from the cached login must carry the same version
+        String cachedToken = login(OLD_PASSWORD);
+
+        UserDto update = new UserDto();
+        update.setName(user.getName());
+        update.setEmail(user.getEmail());
+        userService.updateUser(user.getId(), update, null, NEW_PASSWORD);
+
+        refresh(oldToken).andExpect(status().isUnauthorized());
+        refresh(cachedToken).andExpect(status().isUnauthorized());
+        refresh(login(NEW_PASSWORD)).andExpect(status().isOk());
+    }
+
+    private String login(String password) throws Exception {
+        ResultActions result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + user.getEmail() + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(status().isOk());
+        return refreshTokenOf(result);
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + refreshToken + "\"}"));
+    }
+
+    private String refreshTokenOf(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andReturn().getResponse().getContentAsString())
+                .get("refreshToken").asText();
+    }
+}
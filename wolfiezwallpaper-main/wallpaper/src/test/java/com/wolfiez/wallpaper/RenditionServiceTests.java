@@ -0,0 +1,85 @@
+package com.wolfiez.wallpaper;
+
+import com.wolfiez.wallpaper.event.BoardImageUpdatedEvent;
+import com.wolfiez.wallpaper.service.BoardService;
+import com.wolfiez.wallpaper.service.ImageBlobService;
+import com.wolfiez.wallpaper.service.RenditionService;
+import com.wolfiez.wallpaper.storage.ImageStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that renditions which are stored but never attached to their board are deleted again.
+ */
+class RenditionServiceTests {
+
+    private static final String ORIGINAL = "original";
+
+    private final ImageStore imageStore = mock(ImageStore.class);
+    private final BoardService boardService = mock(BoardService.class);
+    private final ImageBlobService imageBlobService = mock(ImageBlobService.class);
+    private final RenditionService renditionService = new RenditionService(imageStore, boardService, imageBlobService);
+
+    @BeforeEach
+    void storeOriginal() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), "jpg", output);
+        when(imageStore.load(ORIGINAL)).thenReturn(new ByteArrayResource(output.toByteArray()));
+    }
+
+    @Test
+    void mediumIsDeletedWhenTheThumbnailFails() throws IOException {
+        when(imageStore.store(any(byte[].class))).thenReturn("medium").thenThrow(new IOException("disk full"));
+
+        renditionService.onBoardImageUpdated(new BoardImageUpdatedEvent(1L, ORIGINAL));
+
+        verify(boardService, never()).attachRenditions(anyLong(), anyString(), anyString(), anyString());
+        verify(imageBlobService).deleteIfUnreferenced(null, "medium");
+    }
+
+    @Test
+    void renditionsAreDeletedWhenTheBoardImageChanged() throws IOException {
+        when(imageStore.store(any(byte[].class))).thenReturn("medium", "thumb");
+        when(boardService.attachRenditions(1L, ORIGINAL, "thumb", "medium")).thenReturn(false);
+
+        renditionService.onBoardImageUpdated(new BoardImageUpdatedEvent(1L, ORIGINAL));
+
+        verify(imageBlobService).deleteIfUnreferenced("thumb", "medium");
+    }
+
+    @Test
+    void renditionsAreDeletedWhenAttachingFails() throws IOException {
+        when(imageStore.store(any(byte[].class))).thenReturn("medium", "thumb");
+        when(boardService.attachRenditions(1L, ORIGINAL, "thumb", "medium"))
+                .thenThrow(new IllegalStateException("Image blob row missing"));
+
+        renditionService.onBoardImageUpdated(new BoardImageUpdatedEvent(1L, ORIGINAL));
+
+        verify(imageBlobService).deleteIfUnreferenced("thumb", "medium");
+    }
+
+    @Test
+    void attachedRenditionsAreKept() throws IOException {
+        when(imageStore.store(any(byte[].class))).thenReturn("medium", "thumb");
+        when(boardService.attachRenditions(1L, ORIGINAL, "thumb", "medium")).thenReturn(true);
+
+        renditionService.onBoardImageUpdated(new BoardImageUpdatedEvent(1L, ORIGINAL));
+
+        verifyNoInteractions(imageBlobService);
+    }
+}
@@ -0,0 +1,160 @@
+package com.wolfiez.wallpaper;
+
+import com.wolfiez.wallpaper.DTO.BoardDto;
+import com.wolfiez.wallpaper.datasource.ReplicaSet;
+import com.wolfiez.wallpaper.entity.User;
+import com.wolfiez.wallpaper.repository.BoardRepository;
+import com.wolfiez.wallpaper.repository.UserRepository;
+import com.wolfiez.wallpaper.security.CustomUserDetails;
+import com.wolfiez.wallpaper.service.BoardService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that every transaction of a request is routed on its own, i.e. that no
+ * connection is held open for the whole request.
+ *
+ * The replica is the primary's H2 database opened as a user that may only read, so
+ * routed reads see the same data and a write sent to the replica fails.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + RequestReplicaRoutingTests.DATABASE_URL,
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "wallpaper.datasource.replicas[0].url=" + RequestReplicaRoutingTests.REPLICA_URL,
+        "wallpaper.datasource.replicas[0].username=" + RequestReplicaRoutingTests.REPLICA_USER,
+        "wallpaper.datasource.replicas[0].password=" + RequestReplicaRoutingTests.REPLICA_USER,
+        "wallpaper.datasource.lag-query=SELECT 0",
+        "wallpaper.datasource.lag-check-interval=PT1H",
+        "wallpaper.datasource.read-your-writes-window=PT0S",
+        "wallpaper.search.type=memory",
+        "wallpaper.storage.local.root=target/test-images"
+})
+@AutoConfigureMockMvc
+@Import(RequestReplicaRoutingTests.ReadThenWriteController.class)
+class RequestReplicaRoutingTests {
+
+    static final String DATABASE_URL = "jdbc:h2:mem:request-routing;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+    // database settings need admin rights, so the replica only sets the session mode
+    static final String REPLICA_URL = "jdbc:h2:mem:request-routing;MODE=PostgreSQL";
+    static final String REPLICA_USER = "replica";
+    static final String EMAIL = "request-routing@example.com";
+
+    static {
+        try (Connection connection = DriverManager.getConnection(DATABASE_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE USER IF NOT EXISTS " + REPLICA_USER + " PASSWORD '" + REPLICA_USER + "'");
+            statement.execute("GRANT SELECT ON SCHEMA public TO " + REPLICA_USER);
+        } catch (SQLException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private ReplicaSet replicaSet;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+    private CustomUserDetails principal;
+
+    @BeforeEach
+    void seed() {
+        replicaSet.checkLag();
+        user = userRepository.findByEmail(EMAIL).orElseGet(() -> {
+            User created = new User();
+            created.setName("Request Routing");
+            created.setEmail(EMAIL);
+            created.setPassword("hash");
+            return userRepository.save(created);
+        });
+        principal = new CustomUserDetails(EMAIL, null, List.of(new SimpleGrantedAuthority("USER")),
+                user.getId(), user.getName(), null);
+    }
+
+    @Test
+    void readAfterAPrimaryTransactionReachesTheReplica() throws Exception {
+        double replicaReads = replicaReads();
+
+        // getUserByEmail runs on the primary, countUserBoards is a routed read
+        mockMvc.perform(get("/profile").with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("boardCount", boardRepository.countByUserId(user.getId())));
+
+        assertThat(replicaReads() - replicaReads).isEqualTo(1);
+    }
+
+    @Test
+    void writeAfterAReplicaReadGoesToThePrimary() throws Exception {
+        long boards = boardRepository.countByUserId(user.getId());
+        double replicaReads = replicaReads();
+
+        mockMvc.perform(post("/test/read-then-write/{userId}", user.getId()).with(user(principal)).with(csrf()))
+                .andExpect(status().isOk());
+
+        assertThat(replicaReads() - replicaReads).isEqualTo(1);
+        assertThat(boardRepository.countByUserId(user.getId())).isEqualTo(boards + 1);
+    }
+
+    private double replicaReads() {
+        return meterRegistry.get("wallpaper.datasource.reads").tag("target", "replica").counter().count();
+    }
+
+    /**
+     * Reads from a replica, then writes, in one request.
+     */
+    @TestConfiguration
+    @RestController
+    static class ReadThenWriteController {
+
+        private final BoardService boardService;
+
+        ReadThenWriteController(BoardService boardService) {
+            this.boardService = boardService;
+        }
+
+        @PostMapping("/test/read-then-write/{userId}")
+        long readThenWrite(@PathVariable Long userId) {
+            long count = boardService.countUserBoards(userId);
+            BoardDto board = new BoardDto();
+            board.setName("Board " + (count + 1));
+            boardService.createBoard(board, userId);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.wolfiez.wallpaper.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Test configuration that fails any request issuing more SQL statements than
+ * {@code wallpaper.test.max-sql-statements} (default 5).
+ *
+ * Statements are counted by a Hibernate {@link StatementInspector} on the request
+ * thread, so N+1 queries introduced by lazy loading surface as test failures.
+ * Import it into a {@code @SpringBootTest} that drives requests through MockMvc.
+ *
+ * @author luis
+ * @version 1.0
+ * @since 18-10-2026
+ */
+@TestConfiguration
+public class SqlStatementGuard {
+
+    private static final ThreadLocal<int[]> REQUEST_COUNT = new ThreadLocal<>();
+
+    @Bean
+    HibernatePropertiesCustomizer sqlStatementCounter() {
+        StatementInspector inspector = sql -> {
+            int[] count = REQUEST_COUNT.get();
+            if (count != null) {
+                count[0]++;
+            }
+            return sql;
+        };
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+    @Bean
+    OncePerRequestFilter sqlStatementBudgetFilter(@Value("${wallpaper.test.max-sql-statements:5}") int maxStatements) {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain filterChain) throws ServletException, IOException {
+                int[] count = new int[1];
+                REQUEST_COUNT.set(count);
+                try {
+                    filterChain.doFilter(request, response);
+                } finally {
+                    REQUEST_COUNT.remove();
+                }
+                if (count[0] > maxStatements) {
+                    throw new IllegalStateException(request.getMethod() + " " + request.getRequestURI()
+                            + " issued " + count[0] + " SQL statements, budget is " + maxStatements);
+                }
+            }
+        };
+    }
+}